@@ -1,11 +1,15 @@
 package seedu.address;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
@@ -23,8 +27,12 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JournaledAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.MappedAddressBookStorage;
+import seedu.address.storage.ShardedAddressBookStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
@@ -40,12 +48,18 @@ public class MainApp extends Application {
 
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
 
+    /** Added to the name of a data file that could not be loaded, when it is moved aside. */
+    private static final String UNREADABLE_FILE_SUFFIX = ".unreadable";
+
     protected Ui ui;
     protected Logic logic;
     protected Storage storage;
     protected Model model;
     protected Config config;
 
+    /** True if the address book returned by the last {@link #readInitialData(Storage)} was read from storage. */
+    private boolean isInitialDataStored;
+
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing AddressBook ]===========================");
@@ -57,40 +71,119 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage addressBookStorage = createAddressBookStorage(userPrefs);
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
-        model = initModelManager(storage, userPrefs);
-
-        logic = new LogicManager(model, storage);
+        if (userPrefs.isAddressBookLoadedInBackground()) {
+            model = new ModelManager(new AddressBook(), userPrefs);
+            logic = new LogicManager(model, storage, userPrefs.getAddressBookSaveDelayMillis());
+            logic.startLoading();
+        } else {
+            model = initModelManager(storage, userPrefs);
+            logic = new LogicManager(model, storage, userPrefs.getAddressBookSaveDelayMillis());
+        }
 
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns the storage for the address book data file, in the format given by {@code userPrefs}.
+     * Data files in the other formats are read too, and converted when they are next saved.
+     */
+    private AddressBookStorage createAddressBookStorage(ReadOnlyUserPrefs userPrefs) {
+        Path filePath = userPrefs.getAddressBookFilePath();
+        switch (userPrefs.getAddressBookFormat()) {
+        case BINARY:
+            return new BinaryAddressBookStorage(filePath);
+        case MAPPED:
+            return new MappedAddressBookStorage(filePath);
+        case SHARDED:
+            return new ShardedAddressBookStorage(filePath);
+        case COMPRESSED_JSON:
+            return new JsonAddressBookStorage(filePath, true, true);
+        case COMPACT_JSON:
+            return new JournaledAddressBookStorage(filePath, JournaledAddressBookStorage.DEFAULT_MAX_JOURNAL_RECORDS,
+                    true);
+        default:
+            return new JournaledAddressBookStorage(filePath);
+        }
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
      * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
      */
     private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+        Model initialModel = new ModelManager(new AddressBook(), userPrefs);
+        initialModel.takeOverAddressBook(readInitialData(storage));
+        return initialModel;
+    }
+
+    /**
+     * Returns the data from {@code storage}'s address book. <br>
+     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
+     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book,
+     * after the file is moved aside so that saving the empty address book does not overwrite it.
+     * Whether the data was read from storage is left in {@code isInitialDataStored}.
+     */
+    private AddressBook readInitialData(Storage storage) {
         logger.info("Using data file : " + storage.getAddressBookFilePath());
 
         Optional<ReadOnlyAddressBook> addressBookOptional;
-        ReadOnlyAddressBook initialData;
+        AddressBook initialData;
         try {
             addressBookOptional = storage.readAddressBook();
             if (!addressBookOptional.isPresent()) {
                 logger.info("Creating a new data file " + storage.getAddressBookFilePath()
                         + " populated with a sample AddressBook.");
             }
-            initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
+            initialData = toAddressBook(addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook));
+            isInitialDataStored = addressBookOptional.isPresent();
         } catch (DataLoadingException e) {
             logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
                     + " Will be starting with an empty AddressBook.");
+            moveAsideUnreadableFile(storage.getAddressBookFilePath());
             initialData = new AddressBook();
+            isInitialDataStored = false;
+        }
+        return initialData;
+    }
+
+    /**
+     * Returns {@code addressBook} itself if it is an {@code AddressBook}, which storage returns with its indexes
+     * already built, or a copy of it otherwise.
+     */
+    private static AddressBook toAddressBook(ReadOnlyAddressBook addressBook) {
+        return addressBook instanceof AddressBook ? (AddressBook) addressBook : new AddressBook(addressBook);
+    }
+
+    private void moveAsideUnreadableFile(Path filePath) {
+        Path unreadableFilePath = Paths.get(filePath + UNREADABLE_FILE_SUFFIX);
+        try {
+            Files.move(filePath, unreadableFilePath, StandardCopyOption.REPLACE_EXISTING);
+            logger.warning("Data file that could not be loaded is kept at " + unreadableFilePath);
+        } catch (IOException e) {
+            logger.warning("Failed to move aside data file that could not be loaded : " + StringUtil.getDetails(e));
         }
+    }
 
-        return new ModelManager(initialData, userPrefs);
+    /**
+     * Reads {@code storage}'s address book on a background thread, and hands it to {@code logic} on the JavaFX
+     * application thread once it has been read, so that the main window can be used while a large address book is
+     * loading. The address book, and its indexes, are built on the background thread, so the JavaFX application
+     * thread only installs them.
+     */
+    private void loadInBackground(Storage storage, Logic logic) {
+        Thread loader = new Thread(() -> {
+            long start = System.nanoTime();
+            AddressBook initialData = readInitialData(storage);
+            boolean isStored = isInitialDataStored;
+            logger.info("Loaded address book in " + (System.nanoTime() - start) / 1_000_000 + " ms");
+            Platform.runLater(() -> logic.finishLoading(initialData, isStored));
+        }, "address-book-loader");
+        loader.setDaemon(true);
+        loader.start();
     }
 
     private void initLogging(Config config) {
@@ -172,11 +265,20 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting AddressBook " + MainApp.VERSION);
         ui.start(primaryStage);
+        if (logic.isLoading()) {
+            loadInBackground(storage, logic);
+        }
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
+        logger.info("Skipped saving an unchanged address book after " + logic.getSkippedSaveCount() + " commands");
+        try {
+            logic.flushPendingSaves();
+        } catch (IOException e) {
+            logger.severe("Failed to save address book " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
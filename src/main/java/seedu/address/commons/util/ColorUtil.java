@@ -2,8 +2,6 @@ package seedu.address.commons.util;
 
 import java.awt.Color;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
-import java.time.temporal.ChronoUnit;
 
 import seedu.address.model.person.PaymentInfo;
 
@@ -71,20 +69,15 @@ public class ColorUtil {
      * @return The corresponding hex color code as a {@code String}.
      */
     public static String getPaymentInfoColor(PaymentInfo info) {
-        String status = info.getPaymentStatus();
-        String date = info.getPaymentDate();
-
-        if (status.equalsIgnoreCase("paid")) {
+        if (info.isPaid()) {
             return GREEN_COLOR_HEX;
         }
 
-        if (date.isEmpty()) {
+        if (!info.hasPaymentDate()) {
             return YELLOW_COLOR_HEX; // waiting but no due date
         }
 
-        LocalDate today = LocalDate.now();
-        LocalDate dueDate = LocalDate.parse(date, DateTimeFormatter.ofPattern("dd-MM-yyyy"));
-        long daysUntilDue = ChronoUnit.DAYS.between(today, dueDate);
+        long daysUntilDue = info.getDaysUntilDue(LocalDate.now().toEpochDay());
 
         if (daysUntilDue < 0) {
             return RED_COLOR_HEX; // overdue
@@ -1,10 +1,17 @@
 package seedu.address.commons.util;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * Writes and reads files
@@ -12,6 +19,12 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+
+    /** The first two bytes of every GZIP compressed file. */
+    private static final int GZIP_MAGIC_FIRST_BYTE = 0x1f;
+    private static final int GZIP_MAGIC_SECOND_BYTE = 0x8b;
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -72,6 +85,76 @@ public class FileUtil {
         return new String(Files.readAllBytes(file), CHARSET);
     }
 
+    /**
+     * Returns true if the file at {@code file}, which must exist, starts like a GZIP compressed file.
+     *
+     * @throws IOException if the file could not be read.
+     */
+    public static boolean isCompressedFile(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            return isCompressed(in.readNBytes(2));
+        }
+    }
+
+    private static boolean isCompressed(byte[] start) {
+        return start.length == 2 && (start[0] & 0xff) == GZIP_MAGIC_FIRST_BYTE
+                && (start[1] & 0xff) == GZIP_MAGIC_SECOND_BYTE;
+    }
+
+    /**
+     * Returns a buffered stream of the contents of {@code file}, which must exist, decompressed as it is read if the
+     * file is GZIP compressed. The caller must close the stream, which also closes the file.
+     *
+     * @throws IOException if the file could not be opened.
+     */
+    public static InputStream openInputStream(Path file) throws IOException {
+        BufferedInputStream in = new BufferedInputStream(Files.newInputStream(file), BUFFER_SIZE);
+        try {
+            in.mark(2);
+            boolean isCompressed = isCompressed(in.readNBytes(2));
+            in.reset();
+            return isCompressed ? new GZIPInputStream(in, BUFFER_SIZE) : in;
+        } catch (IOException ioe) {
+            in.close();
+            throw ioe;
+        }
+    }
+
+    /**
+     * Returns a stream that writes to {@code file}, replacing its contents, and that compresses what is written with
+     * GZIP as it is written if {@code isCompressed} is true. The caller must close the stream, which also finishes
+     * the compressed data and closes the file.
+     *
+     * @throws IOException if the file could not be opened.
+     */
+    public static OutputStream openOutputStream(Path file, boolean isCompressed) throws IOException {
+        OutputStream out = Files.newOutputStream(file);
+        return isCompressed ? new GZIPOutputStream(out, BUFFER_SIZE) : out;
+    }
+
+    /**
+     * Writes {@code file} by passing {@code contentWriter} a temporary file beside it, and then moving the temporary
+     * file over {@code file}, so that an interrupted write leaves {@code file} with either its old or its new
+     * contents. Missing parent directories are created, and the temporary file is deleted if the write fails.
+     * Where the file system cannot move the file atomically, it is moved over {@code file} without that guarantee.
+     *
+     * @throws IOException if the temporary file could not be written or moved.
+     */
+    public static void writeAtomically(Path file, ContentWriter contentWriter) throws IOException {
+        createParentDirsOfFile(file);
+        Path temporaryFile = Paths.get(file + TEMPORARY_FILE_SUFFIX);
+        try {
+            contentWriter.write(temporaryFile);
+            try {
+                Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
+
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
@@ -80,4 +163,12 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * Writes the contents of a file to the path given, replacing what the file held.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void write(Path file) throws IOException;
+    }
+
 }
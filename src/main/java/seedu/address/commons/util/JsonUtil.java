@@ -11,7 +11,10 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -40,7 +43,21 @@ public class JsonUtil {
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
-        FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
+        serializeObjectToJsonFile(jsonFile, objectToSerialize, false);
+    }
+
+    /**
+     * Writes {@code objectToSerialize} to {@code jsonFile} as it is serialized, without first building the whole
+     * JSON document in memory. The JSON is written to a temporary file that replaces {@code jsonFile} once it is
+     * complete, so a failed write leaves the previous file in place.
+     */
+    static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize, boolean isCompact)
+            throws IOException {
+        FileUtil.writeAtomically(jsonFile, temporaryFile -> {
+            try (JsonGenerator generator = createJsonGenerator(temporaryFile, isCompact)) {
+                generator.writeObject(objectToSerialize);
+            }
+        });
     }
 
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
@@ -77,6 +94,48 @@ public class JsonUtil {
         return Optional.of(jsonFile);
     }
 
+    /**
+     * Returns a parser over the JSON file at {@code filePath} that binds values with the same settings as
+     * {@link #readJsonFile(Path, Class)}, so that a large file can be read one value at a time.
+     * A GZIP compressed file is decompressed as it is parsed.
+     * The caller must close the parser, which also closes the file.
+     *
+     * @throws IOException if the file could not be opened.
+     */
+    public static JsonParser createJsonParser(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        return objectMapper.getFactory().createParser(FileUtil.openInputStream(filePath));
+    }
+
+    /**
+     * Returns a generator that writes JSON straight to the file at {@code filePath}, with the same settings as
+     * {@link #saveJsonFile(Object, Path)}, so that a large document can be written one value at a time.
+     * The generator buffers its output itself. The caller must close the generator, which also closes the file.
+     * The file is emptied when the generator is created, so callers replacing data that must not be lost should
+     * write to a temporary file with {@link FileUtil#writeAtomically}.
+     *
+     * @param isCompact whether to leave out the indentation and line breaks that make the file readable.
+     * @throws IOException if the file could not be opened.
+     */
+    public static JsonGenerator createJsonGenerator(Path filePath, boolean isCompact) throws IOException {
+        return createJsonGenerator(filePath, isCompact, false);
+    }
+
+    /**
+     * Similar to {@link #createJsonGenerator(Path, boolean)}, and compresses the JSON with GZIP as it is written if
+     * {@code isCompressed} is true. Compressed files are read back by {@link #createJsonParser(Path)}.
+     */
+    public static JsonGenerator createJsonGenerator(Path filePath, boolean isCompact, boolean isCompressed)
+            throws IOException {
+        requireNonNull(filePath);
+        JsonGenerator generator = objectMapper.getFactory()
+                .createGenerator(FileUtil.openOutputStream(filePath, isCompressed));
+        if (!isCompact) {
+            generator.setPrettyPrinter(new DefaultPrettyPrinter());
+        }
+        return generator;
+    }
+
     /**
      * Saves the Json object to the specified file.
      * Overwrites existing file if it exists, creates a new file if it doesn't.
@@ -85,10 +144,18 @@ public class JsonUtil {
      * @throws IOException if there was an error during writing to the file
      */
     public static <T> void saveJsonFile(T jsonFile, Path filePath) throws IOException {
+        saveJsonFile(jsonFile, filePath, false);
+    }
+
+    /**
+     * Similar to {@link #saveJsonFile(Object, Path)}, optionally without indentation and line breaks.
+     * The object is written to the file as it is serialized.
+     */
+    public static <T> void saveJsonFile(T jsonFile, Path filePath, boolean isCompact) throws IOException {
         requireNonNull(filePath);
         requireNonNull(jsonFile);
 
-        serializeObjectToJsonFile(filePath, jsonFile);
+        serializeObjectToJsonFile(filePath, jsonFile, isCompact);
     }
 
 
@@ -108,6 +175,17 @@ public class JsonUtil {
      * @return JSON data representation of the given class instance, in string
      */
     public static <T> String toJsonString(T instance) throws JsonProcessingException {
+        return toJsonString(instance, false);
+    }
+
+    /**
+     * Similar to {@link #toJsonString(Object)}, optionally without indentation and line breaks, so that the JSON
+     * data fits on a single line.
+     */
+    public static <T> String toJsonString(T instance, boolean isCompact) throws JsonProcessingException {
+        if (isCompact) {
+            return objectMapper.writeValueAsString(instance);
+        }
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
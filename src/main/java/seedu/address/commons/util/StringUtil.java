@@ -6,8 +6,10 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
 import java.util.Arrays;
 
 /**
@@ -15,6 +17,24 @@ import java.util.Arrays;
  */
 public class StringUtil {
 
+    /**
+     * Formatter for dates entered and displayed as {@code dd-MM-yyyy}. Formatters are immutable and thread-safe.
+     * Dates that do not exist, such as {@code 31-02-2024}, are rejected rather than moved to the end of the month.
+     */
+    public static final DateTimeFormatter DATE_FORMATTER =
+            DateTimeFormatter.ofPattern("dd-MM-uuuu").withResolverStyle(ResolverStyle.STRICT);
+
+    /**
+     * Formatter for dates read back from data files, which resolves a day past the end of the month, such as
+     * {@code 31-02-2024}, to the last day of the month. Earlier versions accepted such dates, so their data files may
+     * hold them.
+     */
+    public static final DateTimeFormatter STORED_DATE_FORMATTER = DateTimeFormatter.ofPattern("dd-MM-yyyy");
+
+    /** Formatter for months entered and displayed as {@code MM-yyyy}. */
+    public static final DateTimeFormatter MONTH_FORMATTER =
+            DateTimeFormatter.ofPattern("MM-uuuu").withResolverStyle(ResolverStyle.STRICT);
+
     /**
      * Returns true if the {@code sentence} contains the {@code word}.
      *   Ignores case, but a full word match is required.
@@ -41,6 +61,26 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns true if any word of the {@code sentence} starts with {@code prefix}.
+     *   Ignores case.
+     *   <br>examples:<pre>
+     *       containsWordWithPrefixIgnoreCase("ABc def", "ab") == true
+     *       containsWordWithPrefixIgnoreCase("ABc def", "DE") == true
+     *       containsWordWithPrefixIgnoreCase("ABc def", "bc") == false //not at the start of a word
+     *       </pre>
+     * @param sentence cannot be null
+     * @param prefix cannot be null, must not contain whitespace
+     */
+    public static boolean containsWordWithPrefixIgnoreCase(String sentence, String prefix) {
+        requireNonNull(sentence);
+        requireNonNull(prefix);
+        checkArgument(prefix.split("\\s+").length <= 1, "Prefix parameter should be a single word");
+
+        return Arrays.stream(sentence.split("\\s+"))
+                .anyMatch(word -> word.regionMatches(true, 0, prefix, 0, prefix.length()));
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
@@ -96,10 +136,41 @@ public class StringUtil {
      */
     public static boolean isValidDate(String s) {
         requireNonNull(s);
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd-MM-yyyy");
 
         try {
-            LocalDate.parse(s, formatter);
+            LocalDate.parse(s, DATE_FORMATTER);
+            return true;
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns {@code date}, read back from a data file, as the date {@link #STORED_DATE_FORMATTER} resolves it to,
+     * in the format of {@link #DATE_FORMATTER}. Returns {@code date} unchanged if it cannot be resolved.
+     */
+    public static String normalizeStoredDate(String date) {
+        requireNonNull(date);
+
+        try {
+            return LocalDate.parse(date, STORED_DATE_FORMATTER).format(DATE_FORMATTER);
+        } catch (DateTimeParseException e) {
+            return date;
+        }
+    }
+
+    /**
+     * Returns true if {@code s} represents a valid month
+     * e.g. 01-2025, 11-2000, ..., etc. <br>
+     * Will return false for any other invalid month format
+     * e.g. 2025-01, 13-2025, etc.
+     * @throws NullPointerException if {@code s} is null.
+     */
+    public static boolean isValidMonth(String s) {
+        requireNonNull(s);
+
+        try {
+            YearMonth.parse(s, MONTH_FORMATTER);
             return true;
         } catch (DateTimeParseException e) {
             return false;
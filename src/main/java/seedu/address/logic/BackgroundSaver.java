@@ -0,0 +1,120 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.Storage;
+
+/**
+ * Saves address book snapshots to {@code Storage} on a dedicated writer thread.
+ * A save is started {@code delayMillis} after the first snapshot that has not been saved yet is requested, and only
+ * the latest snapshot requested by then is written, so a burst of commands costs a single save.
+ */
+class BackgroundSaver {
+
+    private static final String THREAD_NAME = "address-book-saver";
+
+    private final Logger logger = LogsCenter.getLogger(BackgroundSaver.class);
+
+    private final Storage storage;
+    private final long delayMillis;
+    private final ScheduledExecutorService executor;
+    private volatile Consumer<IOException> failureHandler = ioe -> { };
+
+    private ReadOnlyAddressBook pendingSnapshot;
+    private boolean isSaveScheduled;
+
+    /**
+     * Creates a {@code BackgroundSaver} that saves to {@code storage} {@code delayMillis} after a save is requested.
+     */
+    BackgroundSaver(Storage storage, long delayMillis) {
+        requireNonNull(storage);
+        if (delayMillis < 0) {
+            throw new IllegalArgumentException("Save delay cannot be negative: " + delayMillis);
+        }
+        this.storage = storage;
+        this.delayMillis = delayMillis;
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Sets the handler that is given the exception of every save that fails on the writer thread.
+     * The handler is called on the writer thread.
+     */
+    void setFailureHandler(Consumer<IOException> failureHandler) {
+        requireNonNull(failureHandler);
+        this.failureHandler = failureHandler;
+    }
+
+    /**
+     * Requests {@code snapshot} to be saved, replacing any snapshot that is still waiting to be saved.
+     * The snapshot must not change after it is requested.
+     */
+    synchronized void requestSave(ReadOnlyAddressBook snapshot) {
+        requireNonNull(snapshot);
+        pendingSnapshot = snapshot;
+        if (!isSaveScheduled) {
+            isSaveScheduled = true;
+            executor.schedule(this::saveScheduled, delayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Saves the snapshot that is waiting to be saved, if any, and waits until it is written.
+     *
+     * @throws IOException if the save failed or the wait was interrupted.
+     */
+    void flush() throws IOException {
+        Future<?> save = executor.submit(() -> {
+            savePending();
+            return null;
+        });
+        try {
+            save.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the address book to be saved");
+        }
+    }
+
+    private void saveScheduled() {
+        try {
+            savePending();
+        } catch (IOException ioe) {
+            logger.warning("Failed to save address book in the background: " + ioe);
+            failureHandler.accept(ioe);
+        }
+    }
+
+    private void savePending() throws IOException {
+        ReadOnlyAddressBook snapshot;
+        synchronized (this) {
+            snapshot = pendingSnapshot;
+            pendingSnapshot = null;
+            isSaveScheduled = false;
+        }
+        if (snapshot != null) {
+            storage.saveAddressBook(snapshot);
+        }
+    }
+}
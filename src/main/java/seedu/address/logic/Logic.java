@@ -1,14 +1,18 @@
 package seedu.address.logic;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonStatistics;
 
 /**
  * API of the Logic component
@@ -23,6 +27,43 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Rejects every command until {@link #finishLoading(AddressBook, boolean)} is called, so that the address book
+     * can be read from storage while the app is already showing.
+     */
+    void startLoading();
+
+    /**
+     * Replaces the address book with {@code addressBook}, taking over the indexes it was built with, and accepts
+     * commands again. {@code addressBook} must not be used afterwards.
+     * If {@code isStored} is true, {@code addressBook} was read from storage and is not saved until it changes.
+     * Otherwise, such as for sample data used because no data file was found, it is saved after the next command.
+     */
+    void finishLoading(AddressBook addressBook, boolean isStored);
+
+    /**
+     * Returns true if commands are rejected until the address book has been read from storage.
+     */
+    boolean isLoading();
+
+    /**
+     * Saves any changes to the address book that are still waiting to be saved, and waits until they are written.
+     *
+     * @throws IOException if saving the address book failed.
+     */
+    void flushPendingSaves() throws IOException;
+
+    /**
+     * Returns the number of commands after which the address book was not saved because it had not changed.
+     */
+    int getSkippedSaveCount();
+
+    /**
+     * Sets the handler that is given the error message of every save that fails after its command has returned.
+     * The handler may be called from a thread other than the one that executed the command.
+     */
+    void setSaveFailureHandler(Consumer<String> saveFailureHandler);
+
     /**
      * Returns the AddressBook.
      *
@@ -33,6 +74,13 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<Person> getFilteredPersonList();
 
+    /**
+     * Returns the summary statistics of the persons in the address book.
+     *
+     * @see seedu.address.model.Model#getPersonStatistics()
+     */
+    PersonStatistics getPersonStatistics();
+
     /**
      * Returns the user prefs' address book file path.
      */
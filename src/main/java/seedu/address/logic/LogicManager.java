@@ -1,8 +1,11 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -13,9 +16,12 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonStatistics;
 import seedu.address.storage.Storage;
 
 /**
@@ -27,40 +33,137 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    public static final String MESSAGE_LOADING = "The address book is still being loaded, please try again shortly.";
+
+    /** Version that no address book has, so that the next command saves whatever the current version is. */
+    private static final long UNSAVED_VERSION = -1;
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final BackgroundSaver backgroundSaver;
+    private volatile Consumer<String> saveFailureHandler = message -> { };
+
+    /** Version of the address book that was last saved, or handed to the background saver. */
+    private volatile long savedVersion;
+    private int skippedSaveCount;
+    private volatile boolean isLoading;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * The address book is saved after every command, before the command returns.
      */
     public LogicManager(Model model, Storage storage) {
         this.model = model;
         this.storage = storage;
         addressBookParser = new AddressBookParser();
+        backgroundSaver = null;
+        savedVersion = model.getAddressBookVersion();
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage} that saves the address book
+     * on a background thread, {@code saveDelayMillis} after a command first changes it.
+     * All commands executed within that delay are saved together.
+     */
+    public LogicManager(Model model, Storage storage, long saveDelayMillis) {
+        this.model = model;
+        this.storage = storage;
+        addressBookParser = new AddressBookParser();
+        backgroundSaver = new BackgroundSaver(storage, saveDelayMillis);
+        backgroundSaver.setFailureHandler(this::handleBackgroundSaveFailure);
+        savedVersion = model.getAddressBookVersion();
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
+        if (isLoading) {
+            throw new CommandException(MESSAGE_LOADING);
+        }
 
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
         commandResult = command.execute(model);
 
+        long version = model.getAddressBookVersion();
         try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
+            if (version == savedVersion) {
+                skippedSaveCount++;
+                logger.fine("Address book unchanged, skipped saving (" + skippedSaveCount + " saves skipped)");
+            } else if (backgroundSaver == null) {
+                storage.saveAddressBook(model.getAddressBook());
+                savedVersion = version;
+            } else {
+                backgroundSaver.requestSave(new AddressBookSnapshot(model.getAddressBook()));
+                savedVersion = version;
+            }
+            if (backgroundSaver != null && commandResult.isExit()) {
+                backgroundSaver.flush();
+            }
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            throw new CommandException(getSaveErrorMessage(ioe), ioe);
         }
 
         return commandResult;
     }
 
+    @Override
+    public void startLoading() {
+        isLoading = true;
+    }
+
+    @Override
+    public void finishLoading(AddressBook addressBook, boolean isStored) {
+        model.takeOverAddressBook(addressBook);
+        savedVersion = isStored ? model.getAddressBookVersion() : UNSAVED_VERSION;
+        isLoading = false;
+    }
+
+    @Override
+    public boolean isLoading() {
+        return isLoading;
+    }
+
+    @Override
+    public int getSkippedSaveCount() {
+        return skippedSaveCount;
+    }
+
+    @Override
+    public void flushPendingSaves() throws IOException {
+        if (backgroundSaver != null) {
+            backgroundSaver.flush();
+        }
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<String> saveFailureHandler) {
+        requireNonNull(saveFailureHandler);
+        this.saveFailureHandler = saveFailureHandler;
+    }
+
+    /**
+     * Makes the next command save the address book again, as the save that failed with {@code ioe} may have been the
+     * last one requested, and reports the failure to the save failure handler.
+     */
+    private void handleBackgroundSaveFailure(IOException ioe) {
+        savedVersion = UNSAVED_VERSION;
+        saveFailureHandler.accept(getSaveErrorMessage(ioe));
+    }
+
+    /**
+     * Returns the message shown to the user when saving the address book fails with {@code ioe}.
+     */
+    private static String getSaveErrorMessage(IOException ioe) {
+        if (ioe instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage());
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -71,6 +174,11 @@ public class LogicManager implements Logic {
         return model.getFilteredPersonList();
     }
 
+    @Override
+    public PersonStatistics getPersonStatistics() {
+        return model.getPersonStatistics();
+    }
+
     @Override
     public Path getAddressBookFilePath() {
         return model.getAddressBookFilePath();
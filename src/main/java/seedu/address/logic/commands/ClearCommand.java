@@ -12,7 +12,6 @@ import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.person.Person;
-import seedu.address.model.person.TagsContainTagPredicate;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -100,7 +99,7 @@ public class ClearCommand extends Command {
                 .stream()
                 .toList();
 
-        subListToDelete.forEach(model::deletePerson);
+        model.batch(m -> subListToDelete.forEach(m::deletePerson));
 
         int numberOfPersonsDeleted = end.getZeroBased() - start.getZeroBased() + 1;
         return String.format(MESSAGE_SUCCESS_INDEX,
@@ -116,14 +115,9 @@ public class ClearCommand extends Command {
             throw new CommandException(MESSAGE_MISSING_TAGS);
         }
 
-        TagsContainTagPredicate predicate = new TagsContainTagPredicate(tags);
+        List<Person> personsToDelete = model.getFilteredPersonsWithAnyTag(tags);
 
-        // Filter and delete persons
-        List<Person> personsToDelete = model.getFilteredPersonList().stream()
-                .filter(predicate) // Use the reusable predicate here
-                .toList();
-
-        personsToDelete.forEach(model::deletePerson);
+        model.batch(m -> personsToDelete.forEach(m::deletePerson));
 
         int numberOfPersonsDeleted = personsToDelete.size();
         if (numberOfPersonsDeleted == 0) {
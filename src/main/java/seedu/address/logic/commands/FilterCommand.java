@@ -62,7 +62,9 @@ public class FilterCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        model.updateFilteredPersonList(filterDescriptor);
+        // the persons to list are looked up in the bitmap index, not tested against the descriptor one by one
+        model.updateFilteredPersonList(model.getFieldMatcher(filterDescriptor.eduLevel, filterDescriptor.currentGrade,
+                filterDescriptor.expectedGrade, filterDescriptor.tags));
         return new CommandResult(String.format(MESSAGE_FILTER_SUCCESS, model.getFilteredPersonList().size()));
     }
 
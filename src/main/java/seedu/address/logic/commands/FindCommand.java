@@ -5,31 +5,54 @@ import static java.util.Objects.requireNonNull;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
+import seedu.address.model.person.FuzzyNameMatcher;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 
 /**
  * Finds and lists all persons in address book whose name contains any of the argument keywords.
- * Keyword matching is case insensitive.
+ * Keyword matching is case insensitive, and a keyword ending with {@code *} matches names with a word starting with it.
+ * In fuzzy mode, names with a word a few typos away from a keyword also match, and closer matches are listed first.
  */
 public class FindCommand extends Command {
 
     public static final String COMMAND_WORD = "find";
 
+    public static final String FUZZY_FLAG = "-fuzzy";
+
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose names contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie";
+            + "End a keyword with * to match names with a word starting with it.\n"
+            + "Use " + FUZZY_FLAG + " to also match names with small typos, closest matches first.\n"
+            + "Parameters: [" + FUZZY_FLAG + "] KEYWORD [MORE_KEYWORDS]...\n"
+            + "Example: " + COMMAND_WORD + " alice bob charlie\n"
+            + "Example: " + COMMAND_WORD + " ali*\n"
+            + "Example: " + COMMAND_WORD + " " + FUZZY_FLAG + " alcie";
 
     private final NameContainsKeywordsPredicate predicate;
+    private final boolean isFuzzy;
 
     public FindCommand(NameContainsKeywordsPredicate predicate) {
+        this(predicate, false);
+    }
+
+    /**
+     * Creates a FindCommand that matches names against the keywords of {@code predicate}, tolerating typos if
+     * {@code isFuzzy} is true.
+     */
+    public FindCommand(NameContainsKeywordsPredicate predicate, boolean isFuzzy) {
         this.predicate = predicate;
+        this.isFuzzy = isFuzzy;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        if (isFuzzy) {
+            FuzzyNameMatcher matcher = model.getFuzzyNameMatcher(predicate.getKeywords());
+            model.updateFilteredPersonList(matcher, matcher.byDistance());
+        } else {
+            model.updateFilteredPersonList(model.getNameMatcher(predicate.getKeywords()));
+        }
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
@@ -46,13 +69,15 @@ public class FindCommand extends Command {
         }
 
         FindCommand otherFindCommand = (FindCommand) other;
-        return predicate.equals(otherFindCommand.predicate);
+        return predicate.equals(otherFindCommand.predicate)
+                && isFuzzy == otherFindCommand.isFuzzy;
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("predicate", predicate)
+                .add("isFuzzy", isFuzzy)
                 .toString();
     }
 }
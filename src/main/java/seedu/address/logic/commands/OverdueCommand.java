@@ -0,0 +1,76 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_WITHIN_DAYS;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.person.UniquePersonList;
+
+/**
+ * Lists the persons whose payment is not paid and is overdue, or due within a given number of days, earliest due
+ * date first.
+ * The persons due are looked up in the due-date index, but the displayed list is still filtered by testing every
+ * person for membership in the result, so the command costs {@code O(n)}.
+ */
+public class OverdueCommand extends Command {
+
+    public static final String COMMAND_WORD = "overdue";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists all persons whose payment is not paid and "
+            + "is overdue, or also due within the specified number of days, earliest due date first.\n"
+            + "Parameters: [" + PREFIX_WITHIN_DAYS + "DAYS]\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_WITHIN_DAYS + "7";
+
+    public static final String MESSAGE_SUCCESS_OVERDUE = "%1$d persons with overdue payments listed!";
+    public static final String MESSAGE_SUCCESS_WITHIN_DAYS =
+            "%1$d persons with payments overdue or due within %2$d days listed!";
+
+    private final Optional<Integer> withinDays;
+
+    /**
+     * Creates an OverdueCommand that also lists payments due within {@code withinDays} days, if present.
+     */
+    public OverdueCommand(Optional<Integer> withinDays) {
+        requireNonNull(withinDays);
+        this.withinDays = withinDays;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        long today = LocalDate.now().toEpochDay();
+        long lastDueEpochDay = withinDays.map(days -> today + days).orElse(today - 1);
+        model.updateFilteredPersonList(model.getDueByMatcher(lastDueEpochDay), UniquePersonList.DUE_DATE_ORDER);
+
+        int numberOfPersons = model.getFilteredPersonList().size();
+        return new CommandResult(withinDays
+                .map(days -> String.format(MESSAGE_SUCCESS_WITHIN_DAYS, numberOfPersons, days))
+                .orElse(String.format(MESSAGE_SUCCESS_OVERDUE, numberOfPersons)));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof OverdueCommand)) {
+            return false;
+        }
+
+        OverdueCommand otherOverdueCommand = (OverdueCommand) other;
+        return withinDays.equals(otherOverdueCommand.withinDays);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("withinDays", withinDays)
+                .toString();
+    }
+}
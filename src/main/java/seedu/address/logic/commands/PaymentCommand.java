@@ -84,10 +84,10 @@ public class PaymentCommand extends Command {
         PaymentInfo newPaymentInfo = editedPerson.getPaymentInfo();
         if (originalPaymentInfo.equals(newPaymentInfo)) {
             return String.format(MESSAGE_SAME_PAYMENT_SUCCESS, editedPerson);
-        } else if (originalPaymentInfo.getPaymentFee() == 0 && originalPaymentInfo.getPaymentDate().isEmpty()
+        } else if (originalPaymentInfo.getPaymentFee() == 0 && !originalPaymentInfo.hasPaymentDate()
                 && originalPaymentInfo.getPaymentStatus().isEmpty()) {
             return String.format(MESSAGE_ADD_PAYMENT_SUCCESS, editedPerson);
-        } else if (newPaymentInfo.getPaymentFee() == 0 && newPaymentInfo.getPaymentDate().isEmpty()
+        } else if (newPaymentInfo.getPaymentFee() == 0 && !newPaymentInfo.hasPaymentDate()
                 && newPaymentInfo.getPaymentStatus().isEmpty()) {
             return String.format(MESSAGE_DELETE_PAYMENT_SUCCESS, editedPerson);
         } else {
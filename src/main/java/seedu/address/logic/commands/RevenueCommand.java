@@ -0,0 +1,95 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM_MONTH;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO_MONTH;
+
+import java.time.YearMonth;
+import java.util.Map;
+import java.util.Optional;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.payment.MonthlyTotal;
+
+/**
+ * Shows the fees received and outstanding in each month of a range of months, from the payment ledger.
+ */
+public class RevenueCommand extends Command {
+
+    public static final String COMMAND_WORD = "revenue";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows the fees received and outstanding in each "
+            + "month from the start month to the end month inclusive. The start month defaults to the end month, "
+            + "and the end month defaults to the current month.\n"
+            + "Parameters: [" + PREFIX_FROM_MONTH + "MM-yyyy] [" + PREFIX_TO_MONTH + "MM-yyyy]\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_FROM_MONTH + "01-2025 " + PREFIX_TO_MONTH + "03-2025";
+
+    public static final String MESSAGE_HEADER = "Payments from %1$s to %2$s:";
+    public static final String MESSAGE_MONTH = "%1$s: $%2$d received, $%3$d outstanding";
+    public static final String MESSAGE_TOTAL = "Total: $%1$d received, $%2$d outstanding";
+    public static final String MESSAGE_INVALID_RANGE = "The start month %1$s is after the end month %2$s.";
+
+    private final Optional<YearMonth> from;
+    private final Optional<YearMonth> to;
+
+    /**
+     * Creates a RevenueCommand over the months from {@code from} to {@code to}, where given.
+     */
+    public RevenueCommand(Optional<YearMonth> from, Optional<YearMonth> to) {
+        requireNonNull(from);
+        requireNonNull(to);
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        YearMonth end = to.orElseGet(YearMonth::now);
+        YearMonth start = from.orElse(end);
+        if (start.isAfter(end)) {
+            throw new CommandException(String.format(MESSAGE_INVALID_RANGE, format(start), format(end)));
+        }
+
+        StringBuilder result = new StringBuilder(String.format(MESSAGE_HEADER, format(start), format(end)));
+        MonthlyTotal total = MonthlyTotal.ZERO;
+        for (Map.Entry<YearMonth, MonthlyTotal> month : model.getMonthlyPaymentTotals(start, end).entrySet()) {
+            MonthlyTotal monthTotal = month.getValue();
+            result.append('\n').append(String.format(MESSAGE_MONTH, format(month.getKey()),
+                    monthTotal.getReceived(), monthTotal.getOutstanding()));
+            total = total.plus(monthTotal);
+        }
+        result.append('\n').append(String.format(MESSAGE_TOTAL, total.getReceived(), total.getOutstanding()));
+        return new CommandResult(result.toString());
+    }
+
+    private static String format(YearMonth month) {
+        return month.format(StringUtil.MONTH_FORMATTER);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RevenueCommand)) {
+            return false;
+        }
+
+        RevenueCommand otherRevenueCommand = (RevenueCommand) other;
+        return from.equals(otherRevenueCommand.from) && to.equals(otherRevenueCommand.to);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("from", from)
+                .add("to", to)
+                .toString();
+    }
+}
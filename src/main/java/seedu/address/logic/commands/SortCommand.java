@@ -9,7 +9,7 @@ import seedu.address.model.Model;
 
 /**
  * Sorts the current list of persons in the address book in alphabetical order by name.
- * Subsequent new persons are appended at the bottom (i.e., not automatically resorted).
+ * Subsequent new or edited persons are placed in their alphabetical position.
  */
 public class SortCommand extends Command {
 
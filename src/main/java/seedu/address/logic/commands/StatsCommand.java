@@ -0,0 +1,65 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import seedu.address.model.Model;
+import seedu.address.model.person.PersonStatistics;
+
+/**
+ * Shows summary statistics of all persons in the address book.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows the number of persons at each education "
+            + "level and grade, and a summary of their payments.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_HEADER = "Statistics of %1$d persons:";
+    public static final String MESSAGE_EDU_LEVELS = "Education levels: %1$s";
+    public static final String MESSAGE_CURRENT_GRADES = "Current grades: %1$s";
+    public static final String MESSAGE_EXPECTED_GRADES = "Expected grades: %1$s";
+    public static final String MESSAGE_PAYMENTS = "Payments: %1$d paid, %2$d waiting";
+    public static final String MESSAGE_PAID_RATIO = " (%1$d%% paid)";
+    public static final String MESSAGE_FEES = "Fees: $%1$d received, $%2$d outstanding";
+    public static final String MESSAGE_NO_COUNTS = "none";
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        PersonStatistics statistics = model.getPersonStatistics();
+
+        StringBuilder result = new StringBuilder(String.format(MESSAGE_HEADER, statistics.getPersonCount()))
+                .append('\n').append(String.format(MESSAGE_EDU_LEVELS, formatCounts(statistics.getEduLevelCounts())))
+                .append('\n').append(String.format(MESSAGE_CURRENT_GRADES,
+                        formatCounts(statistics.getCurrentGradeCounts())))
+                .append('\n').append(String.format(MESSAGE_EXPECTED_GRADES,
+                        formatCounts(statistics.getExpectedGradeCounts())))
+                .append('\n').append(String.format(MESSAGE_PAYMENTS, statistics.getPaidCount(),
+                        statistics.getWaitingCount()));
+        int paymentCount = statistics.getPaidCount() + statistics.getWaitingCount();
+        if (paymentCount > 0) {
+            result.append(String.format(MESSAGE_PAID_RATIO, statistics.getPaidCount() * 100 / paymentCount));
+        }
+        result.append('\n').append(String.format(MESSAGE_FEES, statistics.getReceivedFees(),
+                statistics.getOutstandingFees()));
+        return new CommandResult(result.toString());
+    }
+
+    /**
+     * Formats {@code counts} as {@code value: count} pairs ordered by value.
+     */
+    private static String formatCounts(Map<String, Integer> counts) {
+        if (counts.isEmpty()) {
+            return MESSAGE_NO_COUNTS;
+        }
+        return new TreeMap<>(counts).entrySet().stream()
+                .map(count -> count.getKey() + ": " + count.getValue())
+                .collect(Collectors.joining(", "));
+    }
+}
@@ -42,21 +42,20 @@ public class UntagCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
-        List<Person> personsToUpdate = model.getFilteredPersonList().stream()
-                .filter(person -> person.getTags().stream().anyMatch(tagsToRemove::contains))
-                .toList();
+        List<Person> personsToUpdate = model.getFilteredPersonsWithAnyTag(tagsToRemove);
 
         if (personsToUpdate.isEmpty()) {
             throw new CommandException(MESSAGE_NO_PERSON_UPDATED);
         }
 
-        for (Person personToUntag : personsToUpdate) {
-            Set<Tag> updatedTags = personToUntag.getTags().stream()
-                    .filter(tag -> !tagsToRemove.contains(tag))
-                    .collect(Collectors.toSet());
-            Person updatedPerson = createUpdatedPerson(personToUntag, updatedTags);
-            model.setPerson(personToUntag, updatedPerson);
-        }
+        model.batch(m -> {
+            for (Person personToUntag : personsToUpdate) {
+                Set<Tag> updatedTags = personToUntag.getTags().stream()
+                        .filter(tag -> !tagsToRemove.contains(tag))
+                        .collect(Collectors.toSet());
+                m.setPerson(personToUntag, createUpdatedPerson(personToUntag, updatedTags));
+            }
+        });
 
         return new CommandResult(String.format(MESSAGE_SUCCESS, tagsToRemove, personsToUpdate.size()));
     }
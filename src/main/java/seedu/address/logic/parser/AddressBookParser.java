@@ -18,9 +18,13 @@ import seedu.address.logic.commands.FilterCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.OverdueCommand;
 import seedu.address.logic.commands.PaymentCommand;
 import seedu.address.logic.commands.PurgeCommand;
+import seedu.address.logic.commands.RevenueCommand;
+import seedu.address.logic.commands.SearchCommand;
 import seedu.address.logic.commands.SortCommand;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.commands.ToggleThemeCommand;
 import seedu.address.logic.commands.UntagCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -77,6 +81,9 @@ public class AddressBookParser {
         case FindCommand.COMMAND_WORD:
             return new FindCommandParser().parse(arguments);
 
+        case SearchCommand.COMMAND_WORD:
+            return new SearchCommandParser().parse(arguments);
+
         case FilterCommand.COMMAND_WORD:
             return new FilterCommandParser().parse(arguments);
 
@@ -86,9 +93,18 @@ public class AddressBookParser {
         case PaymentCommand.COMMAND_WORD:
             return new PaymentCommandParser().parse(arguments);
 
+        case OverdueCommand.COMMAND_WORD:
+            return new OverdueCommandParser().parse(arguments);
+
+        case RevenueCommand.COMMAND_WORD:
+            return new RevenueCommandParser().parse(arguments);
+
         case SortCommand.COMMAND_WORD:
             return new SortCommandParser().parse(arguments);
 
+        case StatsCommand.COMMAND_WORD:
+            return new StatsCommandParser().parse(arguments);
+
         case UntagCommand.COMMAND_WORD:
             return new UntagCommandParser().parse(arguments);
 
@@ -22,4 +22,9 @@ public class CliSyntax {
     public static final Prefix PREFIX_PAYMENT_DATE = new Prefix("d/");
     public static final Prefix PREFIX_PAYMENT_STATUS = new Prefix("s/");
     public static final Prefix PREFIX_INDEX_SEQUENCE = new Prefix("i/");
+    // `PREFIX_WITHIN_DAYS` is part of the Overdue Command
+    public static final Prefix PREFIX_WITHIN_DAYS = new Prefix("within/");
+    // `PREFIX_FROM_MONTH` and `PREFIX_TO_MONTH` are part of the Revenue Command
+    public static final Prefix PREFIX_FROM_MONTH = new Prefix("from/");
+    public static final Prefix PREFIX_TO_MONTH = new Prefix("to/");
 }
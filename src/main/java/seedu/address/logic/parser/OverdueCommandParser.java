@@ -0,0 +1,40 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_WITHIN_DAYS;
+
+import java.util.Optional;
+
+import seedu.address.logic.commands.OverdueCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new OverdueCommand object
+ */
+public class OverdueCommandParser implements Parser<OverdueCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the OverdueCommand
+     * and returns an OverdueCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public OverdueCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_WITHIN_DAYS);
+
+        if (!argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, OverdueCommand.MESSAGE_USAGE));
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_WITHIN_DAYS);
+
+        Optional<Integer> withinDays = Optional.empty();
+        if (argMultimap.getValue(PREFIX_WITHIN_DAYS).isPresent()) {
+            withinDays = Optional.of(ParserUtil.parseDays(argMultimap.getValue(PREFIX_WITHIN_DAYS).get()));
+        }
+
+        return new OverdueCommand(withinDays);
+    }
+
+}
@@ -2,6 +2,7 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.YearMonth;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
@@ -30,6 +31,8 @@ public class ParserUtil {
     public static final String MESSAGE_INVALID_INDEX_SEQUENCE = "Start index must be strictly less than End index.";
     public static final String MESSAGE_INVALID_PAYMENT_FEE = "Payment Fee is not an unsigned integer.";
     public static final String MESSAGE_INVALID_PAYMENT_DATE = "Payment Date is not a valid Date.";
+    public static final String MESSAGE_INVALID_DAYS = "Number of days is not an unsigned integer.";
+    public static final String MESSAGE_INVALID_MONTH = "Month should be in the format MM-yyyy, e.g. 01-2025.";
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -244,6 +247,32 @@ public class ParserUtil {
         return trimmedDate;
     }
 
+    /**
+     * Parses {@code daysString} into a number of days and returns it. Leading and trailing whitespaces will be
+     * trimmed.
+     * @throws ParseException if the specified number of days is invalid (not unsigned integer).
+     */
+    public static int parseDays(String daysString) throws ParseException {
+        String trimmedDays = daysString.trim();
+        if (!StringUtil.isUnsignedInteger(trimmedDays)) {
+            throw new ParseException(MESSAGE_INVALID_DAYS);
+        }
+        return Integer.parseInt(trimmedDays);
+    }
+
+    /**
+     * Parses {@code monthString} into a {@code YearMonth} and returns it. Leading and trailing whitespaces will be
+     * trimmed.
+     * @throws ParseException if the specified month is invalid (not in the format MM-yyyy).
+     */
+    public static YearMonth parseMonth(String monthString) throws ParseException {
+        String trimmedMonth = monthString.trim();
+        if (!StringUtil.isValidMonth(trimmedMonth)) {
+            throw new ParseException(MESSAGE_INVALID_MONTH);
+        }
+        return YearMonth.parse(trimmedMonth, StringUtil.MONTH_FORMATTER);
+    }
+
     /**
      * Parses {@code paymentStatusString} into a valid date and returns it. Leading and trailing whitespaces
      * will be trimmed.
@@ -0,0 +1,46 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM_MONTH;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO_MONTH;
+
+import java.time.YearMonth;
+import java.util.Optional;
+
+import seedu.address.logic.commands.RevenueCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new RevenueCommand object
+ */
+public class RevenueCommandParser implements Parser<RevenueCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the RevenueCommand
+     * and returns a RevenueCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public RevenueCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_FROM_MONTH, PREFIX_TO_MONTH);
+
+        if (!argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RevenueCommand.MESSAGE_USAGE));
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_FROM_MONTH, PREFIX_TO_MONTH);
+
+        Optional<YearMonth> from = Optional.empty();
+        if (argMultimap.getValue(PREFIX_FROM_MONTH).isPresent()) {
+            from = Optional.of(ParserUtil.parseMonth(argMultimap.getValue(PREFIX_FROM_MONTH).get()));
+        }
+        Optional<YearMonth> to = Optional.empty();
+        if (argMultimap.getValue(PREFIX_TO_MONTH).isPresent()) {
+            to = Optional.of(ParserUtil.parseMonth(argMultimap.getValue(PREFIX_TO_MONTH).get()));
+        }
+
+        return new RevenueCommand(from, to);
+    }
+
+}
@@ -0,0 +1,30 @@
+package seedu.address.logic.parser;
+
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments to create a new {@code StatsCommand}.
+ * <p>
+ * This command does not accept any arguments. If any extra arguments are provided,
+ * a {@code ParseException} is thrown.
+ */
+public class StatsCommandParser implements Parser<StatsCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the StatsCommand
+     * and returns a StatsCommand object for execution.
+     *
+     * @param args user input arguments
+     * @return a new {@code StatsCommand}
+     * @throws ParseException if any non-empty arguments are provided
+     */
+    @Override
+    public StatsCommand parse(String args) throws ParseException {
+
+        if (!args.trim().isEmpty()) {
+            throw new ParseException("Stats command does not take any arguments!");
+        }
+        return new StatsCommand();
+    }
+}
@@ -2,12 +2,26 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.payment.LedgerEntry;
+import seedu.address.model.payment.MonthlyTotal;
+import seedu.address.model.payment.PaymentLedger;
+import seedu.address.model.person.CurrentGrade;
+import seedu.address.model.person.EduLevel;
+import seedu.address.model.person.ExpectedGrade;
+import seedu.address.model.person.FuzzyNameMatcher;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonStatistics;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.tag.Tag;
 
 /**
  * Wraps all data at the address-book level
@@ -17,6 +31,14 @@ import seedu.address.model.person.UniquePersonList;
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
+    private final PaymentLedger paymentLedger;
+
+    /** Number of ledger entries when the current batch began, so that a rollback can discard the batch's entries. */
+    private int ledgerSizeAtBatchStart;
+
+    /** Incremented on every change to the persons or the payment ledger. */
+    private long version;
+    private long versionAtBatchStart;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -27,6 +49,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     {
         persons = new UniquePersonList();
+        paymentLedger = new PaymentLedger();
     }
 
     public AddressBook() {}
@@ -44,18 +67,57 @@ public class AddressBook implements ReadOnlyAddressBook {
     /**
      * Replaces the contents of the person list with {@code persons}.
      * {@code persons} must not contain duplicate persons.
+     * The payment ledger is left unchanged.
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        version++;
     }
 
     /**
      * Resets the existing data of this {@code AddressBook} with {@code newData}.
+     * Persons copied from another {@code AddressBook} are already known to be unique and are not re-validated.
      */
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
 
-        setPersons(newData.getPersonList());
+        if (newData instanceof AddressBook) {
+            persons.setPersons(((AddressBook) newData).persons);
+        } else {
+            setPersons(newData.getPersonList());
+        }
+        paymentLedger.setEntries(newData.getLedgerEntries());
+        version++;
+    }
+
+    /**
+     * Replaces the existing data of this {@code AddressBook} with that of {@code newData}, taking over its indexes and
+     * payment ledger instead of rebuilding them, so that an address book built elsewhere, such as on a background
+     * thread, is installed at the cost of copying its person list. {@code newData} must not be used afterwards.
+     */
+    public void takeOver(AddressBook newData) {
+        requireNonNull(newData);
+        persons.takeOver(newData.persons);
+        paymentLedger.takeOver(newData.paymentLedger);
+        version++;
+    }
+
+    /**
+     * Replaces the payment ledger with {@code entries}.
+     */
+    public void setLedgerEntries(List<LedgerEntry> entries) {
+        paymentLedger.setEntries(entries);
+        version++;
+    }
+
+    /**
+     * Records the current payment of every person as an opening entry in the payment ledger.
+     * Used for address books saved before the ledger existed.
+     */
+    public void recordOpeningBalances() {
+        long today = LocalDate.now().toEpochDay();
+        persons.forEach(person -> paymentLedger.recordChange(null, person, today));
+        version++;
     }
 
     //// person-level operations
@@ -74,6 +136,8 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addPerson(Person p) {
         persons.add(p);
+        paymentLedger.recordChange(null, p, LocalDate.now().toEpochDay());
+        version++;
     }
 
     /**
@@ -85,6 +149,43 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
+        paymentLedger.recordChange(target, editedPerson, LocalDate.now().toEpochDay());
+        version++;
+    }
+
+    /**
+     * Sorts the persons in the address book by name and keeps them sorted as persons are added or edited.
+     */
+    public void sortPersonsByName() {
+        if (persons.sortByName()) {
+            version++;
+        }
+    }
+
+    /**
+     * Starts staging person mutations so that they are applied together by {@link #commitBatch()}.
+     */
+    public void beginBatch() {
+        persons.beginBatch();
+        ledgerSizeAtBatchStart = paymentLedger.getEntries().size();
+        versionAtBatchStart = version;
+    }
+
+    /**
+     * Applies the person mutations staged since {@link #beginBatch()} as a single change.
+     */
+    public void commitBatch() {
+        persons.commitBatch();
+    }
+
+    /**
+     * Discards the person mutations staged since {@link #beginBatch()}, together with their payment ledger entries.
+     * The version goes back to what it was when the batch began, as the contents are the same again.
+     */
+    public void rollbackBatch() {
+        persons.rollbackBatch();
+        paymentLedger.truncate(ledgerSizeAtBatchStart);
+        version = versionAtBatchStart;
     }
 
     /**
@@ -93,6 +194,79 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        paymentLedger.recordChange(key, null, LocalDate.now().toEpochDay());
+        version++;
+    }
+
+    /**
+     * Returns the persons in the address book that have at least one of the given {@code tags}.
+     */
+    public Set<Person> getPersonsWithAnyTag(Set<Tag> tags) {
+        requireNonNull(tags);
+        return persons.getPersonsWithAnyTag(tags);
+    }
+
+    /**
+     * Returns an index-backed predicate that accepts the persons in the address book whose name contains any of
+     * the {@code keywords}.
+     */
+    public Predicate<Person> getNameMatcher(List<String> keywords) {
+        return persons.getNameMatcher(keywords);
+    }
+
+    /**
+     * Returns an index-backed matcher that accepts and ranks the persons in the address book with a name word close
+     * to any of the {@code keywords}.
+     */
+    public FuzzyNameMatcher getFuzzyNameMatcher(List<String> keywords) {
+        return persons.getFuzzyNameMatcher(keywords);
+    }
+
+    /**
+     * Returns an index-backed predicate that accepts the persons in the address book whose text fields contain every
+     * keyword.
+     */
+    public Predicate<Person> getTextMatcher(List<String> keywords) {
+        return persons.getTextMatcher(keywords);
+    }
+
+    /**
+     * Returns an index-backed predicate that accepts the persons in the address book that match every non-null field
+     * given and have every tag in {@code tags}, if given.
+     */
+    public Predicate<Person> getFieldMatcher(EduLevel eduLevel, CurrentGrade currentGrade,
+            ExpectedGrade expectedGrade, Set<Tag> tags) {
+        return persons.getFieldMatcher(eduLevel, currentGrade, expectedGrade, tags);
+    }
+
+    /**
+     * Returns an index-backed predicate that accepts the persons in the address book with an unpaid payment due on or
+     * before {@code lastDueEpochDay}.
+     */
+    public Predicate<Person> getDueByMatcher(long lastDueEpochDay) {
+        return persons.getDueByMatcher(lastDueEpochDay);
+    }
+
+    /**
+     * Returns the summary statistics of the persons in the address book, which stay up to date as it changes.
+     */
+    public PersonStatistics getStatistics() {
+        return persons.getStatistics();
+    }
+
+    /**
+     * Returns the payment totals of the months from {@code from} to {@code to} inclusive that have any payments.
+     */
+    public NavigableMap<YearMonth, MonthlyTotal> getMonthlyPaymentTotals(YearMonth from, YearMonth to) {
+        return paymentLedger.getMonthlyTotals(from, to);
+    }
+
+    /**
+     * Returns a number that changes whenever the persons or the payment ledger change, so that callers can tell
+     * whether the address book has changed since they last looked at it without comparing its contents.
+     */
+    public long getVersion() {
+        return version;
     }
 
     //// util methods
@@ -109,6 +283,20 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.asUnmodifiableObservableList();
     }
 
+    @Override
+    public List<LedgerEntry> getLedgerEntries() {
+        return paymentLedger.getEntries();
+    }
+
+    /**
+     * {@inheritDoc}
+     * The ledger only grows, so the snapshot is a view of the entries so far rather than a copy of them.
+     */
+    @Override
+    public List<LedgerEntry> getLedgerEntriesSnapshot() {
+        return paymentLedger.getEntriesSnapshot();
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -0,0 +1,19 @@
+package seedu.address.model;
+
+/**
+ * The formats the address book data file can be saved in.
+ */
+public enum AddressBookFormat {
+    /** Indented json, with recent changes kept in a journal beside it. */
+    JSON,
+    /** Json without indentation and line breaks, with recent changes kept in a journal beside it. */
+    COMPACT_JSON,
+    /** Json without indentation and line breaks, compressed with GZIP, rewritten in full on every save. */
+    COMPRESSED_JSON,
+    /** A compact binary file, rewritten in full on every save. */
+    BINARY,
+    /** Compact json split across several shard files, of which only the changed ones are rewritten on a save. */
+    SHARDED,
+    /** A memory-mapped file of fixed-size records, of which only the changed ones are overwritten on a save. */
+    MAPPED
+}
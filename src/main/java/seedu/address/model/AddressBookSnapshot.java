@@ -0,0 +1,47 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.payment.LedgerEntry;
+import seedu.address.model.person.Person;
+
+/**
+ * A copy of the contents of an address book at one point in time.
+ * Persons and ledger entries are immutable, so only the person list is copied, and the snapshot can be read from
+ * another thread while the address book it was taken from keeps changing. The ledger only grows, so it is not
+ * copied: the snapshot keeps a view of the entries recorded so far.
+ */
+public class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final ObservableList<Person> persons;
+    private final List<LedgerEntry> ledgerEntries;
+
+    /**
+     * Creates a snapshot of the current contents of {@code source}.
+     */
+    public AddressBookSnapshot(ReadOnlyAddressBook source) {
+        requireNonNull(source);
+        persons = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(source.getPersonList()));
+        ledgerEntries = source.getLedgerEntriesSnapshot();
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public List<LedgerEntry> getLedgerEntries() {
+        return ledgerEntries;
+    }
+
+    @Override
+    public String toString() {
+        return persons.size() + " persons, " + ledgerEntries.size() + " ledger entries";
+    }
+}
@@ -1,11 +1,24 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.YearMonth;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.payment.MonthlyTotal;
+import seedu.address.model.person.CurrentGrade;
+import seedu.address.model.person.EduLevel;
+import seedu.address.model.person.ExpectedGrade;
+import seedu.address.model.person.FuzzyNameMatcher;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonStatistics;
+import seedu.address.model.tag.Tag;
 
 /**
  * The API of the Model component.
@@ -49,9 +62,21 @@ public interface Model {
      */
     void setAddressBook(ReadOnlyAddressBook addressBook);
 
+    /**
+     * Replaces address book data with the data in {@code addressBook}, taking over its indexes instead of rebuilding
+     * them. {@code addressBook} must not be used afterwards.
+     */
+    void takeOverAddressBook(AddressBook addressBook);
+
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns a number that changes whenever the address book changes.
+     * Two equal versions mean that the address book did not change in between.
+     */
+    long getAddressBookVersion();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -79,13 +104,83 @@ public interface Model {
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
+    /**
+     * Returns the persons in the filtered person list that have at least one of the given {@code tags},
+     * looked up through the address book's tag index.
+     */
+    List<Person> getFilteredPersonsWithAnyTag(Set<Tag> tags);
+
+    /**
+     * Returns a predicate that accepts the persons whose name contains any of the {@code keywords}, with the same
+     * matching rules as {@code NameContainsKeywordsPredicate}.
+     * The predicate is backed by the address book's name index rather than by string comparisons.
+     */
+    Predicate<Person> getNameMatcher(List<String> keywords);
+
+    /**
+     * Returns a matcher that accepts the persons with a name word within a small edit distance of any of the
+     * {@code keywords}, and ranks them by that distance.
+     */
+    FuzzyNameMatcher getFuzzyNameMatcher(List<String> keywords);
+
+    /**
+     * Returns a predicate that accepts the persons whose name, phone, email, address or tags contain every keyword,
+     * ignoring case. Keywords may match anywhere inside a word.
+     * The predicate is backed by the address book's full-text index rather than by string comparisons.
+     */
+    Predicate<Person> getTextMatcher(List<String> keywords);
+
+    /**
+     * Returns a predicate that accepts the persons matching every non-null field given and having every tag in
+     * {@code tags}, if given.
+     * The predicate is backed by the address book's bitmap index rather than by field comparisons.
+     */
+    Predicate<Person> getFieldMatcher(EduLevel eduLevel, CurrentGrade currentGrade, ExpectedGrade expectedGrade,
+            Set<Tag> tags);
+
+    /**
+     * Returns a predicate that accepts the persons with a payment that is not paid and is due on or before
+     * {@code lastDueEpochDay}.
+     * The predicate is backed by the address book's due-date index rather than by date comparisons.
+     */
+    Predicate<Person> getDueByMatcher(long lastDueEpochDay);
+
+    /**
+     * Returns the payment totals of the months from {@code from} to {@code to} inclusive that have any payments,
+     * by month. The totals are kept up to date by the address book's payment ledger.
+     */
+    NavigableMap<YearMonth, MonthlyTotal> getMonthlyPaymentTotals(YearMonth from, YearMonth to);
+
+    /**
+     * Returns the summary statistics of the persons in the address book.
+     * The statistics are maintained as the address book changes, so reading them does not go through the persons.
+     */
+    PersonStatistics getPersonStatistics();
+
     /**
      * Updates the filter of the filtered person list to filter by the given {@code predicate}.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
-    /** Sorts all persons in the address book by name in alphabetical order. */
+    /**
+     * Updates the filter of the filtered person list to filter by the given {@code predicate}, and orders the
+     * filtered persons by {@code comparator} until the filter is next updated.
+     * @throws NullPointerException if {@code predicate} or {@code comparator} is null.
+     */
+    void updateFilteredPersonList(Predicate<Person> predicate, Comparator<Person> comparator);
+
+    /**
+     * Sorts all persons in the address book by name in alphabetical order.
+     * Persons added or edited afterwards are kept in alphabetical order.
+     */
     void sortPersonsByName();
 
+    /**
+     * Runs {@code mutations} against this model as a single change to the address book.
+     * The filtered person list is updated once, after all mutations have been applied.
+     * If {@code mutations} throws, none of its changes are kept and the exception is rethrown.
+     */
+    void batch(Consumer<Model> mutations);
+
 }
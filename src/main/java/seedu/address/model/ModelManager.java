@@ -4,17 +4,28 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
-import java.util.ArrayList;
+import java.time.YearMonth;
 import java.util.Comparator;
 import java.util.List;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.payment.MonthlyTotal;
+import seedu.address.model.person.CurrentGrade;
+import seedu.address.model.person.EduLevel;
+import seedu.address.model.person.ExpectedGrade;
+import seedu.address.model.person.FuzzyNameMatcher;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonStatistics;
+import seedu.address.model.tag.Tag;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -25,6 +36,7 @@ public class ModelManager implements Model {
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
+    private final SortedList<Person> displayedPersons;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -37,6 +49,7 @@ public class ModelManager implements Model {
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        displayedPersons = new SortedList<>(filteredPersons);
     }
 
     public ModelManager() {
@@ -85,11 +98,21 @@ public class ModelManager implements Model {
         this.addressBook.resetData(addressBook);
     }
 
+    @Override
+    public void takeOverAddressBook(AddressBook addressBook) {
+        this.addressBook.takeOver(addressBook);
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return addressBook;
     }
 
+    @Override
+    public long getAddressBookVersion() {
+        return addressBook.getVersion();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -116,12 +139,22 @@ public class ModelManager implements Model {
 
     @Override
     public void sortPersonsByName() {
-        List<Person> sortedList = new ArrayList<>(addressBook.getPersonList());
-        sortedList.sort(Comparator.comparing(person -> person.getName().fullName.toLowerCase()));
-        addressBook.setPersons(new ArrayList<>());
-        for (Person p : sortedList) {
-            addressBook.addPerson(p);
+        addressBook.sortPersonsByName();
+        // the displayed persons follow the address book again, even if they were ranked by a search
+        displayedPersons.setComparator(null);
+    }
+
+    @Override
+    public void batch(Consumer<Model> mutations) {
+        requireNonNull(mutations);
+        addressBook.beginBatch();
+        try {
+            mutations.accept(this);
+        } catch (RuntimeException e) {
+            addressBook.rollbackBatch();
+            throw e;
         }
+        addressBook.commitBatch();
     }
 
 
@@ -133,13 +166,70 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        return displayedPersons;
+    }
+
+    @Override
+    public List<Person> getFilteredPersonsWithAnyTag(Set<Tag> tags) {
+        requireNonNull(tags);
+        Predicate<? super Person> predicate = filteredPersons.getPredicate();
+        return addressBook.getPersonsWithAnyTag(tags).stream()
+                .filter(person -> predicate == null || predicate.test(person))
+                .toList();
+    }
+
+    @Override
+    public Predicate<Person> getNameMatcher(List<String> keywords) {
+        requireNonNull(keywords);
+        return addressBook.getNameMatcher(keywords);
+    }
+
+    @Override
+    public FuzzyNameMatcher getFuzzyNameMatcher(List<String> keywords) {
+        requireNonNull(keywords);
+        return addressBook.getFuzzyNameMatcher(keywords);
+    }
+
+    @Override
+    public Predicate<Person> getTextMatcher(List<String> keywords) {
+        requireNonNull(keywords);
+        return addressBook.getTextMatcher(keywords);
+    }
+
+    @Override
+    public Predicate<Person> getFieldMatcher(EduLevel eduLevel, CurrentGrade currentGrade,
+            ExpectedGrade expectedGrade, Set<Tag> tags) {
+        return addressBook.getFieldMatcher(eduLevel, currentGrade, expectedGrade, tags);
+    }
+
+    @Override
+    public Predicate<Person> getDueByMatcher(long lastDueEpochDay) {
+        return addressBook.getDueByMatcher(lastDueEpochDay);
+    }
+
+    @Override
+    public NavigableMap<YearMonth, MonthlyTotal> getMonthlyPaymentTotals(YearMonth from, YearMonth to) {
+        requireAllNonNull(from, to);
+        return addressBook.getMonthlyPaymentTotals(from, to);
+    }
+
+    @Override
+    public PersonStatistics getPersonStatistics() {
+        return addressBook.getStatistics();
     }
 
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
         filteredPersons.setPredicate(predicate);
+        displayedPersons.setComparator(null);
+    }
+
+    @Override
+    public void updateFilteredPersonList(Predicate<Person> predicate, Comparator<Person> comparator) {
+        requireAllNonNull(predicate, comparator);
+        filteredPersons.setPredicate(predicate);
+        displayedPersons.setComparator(comparator);
     }
 
     @Override
@@ -156,7 +246,7 @@ public class ModelManager implements Model {
         ModelManager otherModelManager = (ModelManager) other;
         return addressBook.equals(otherModelManager.addressBook)
                 && userPrefs.equals(otherModelManager.userPrefs)
-                && filteredPersons.equals(otherModelManager.filteredPersons);
+                && displayedPersons.equals(otherModelManager.displayedPersons);
     }
 
 }
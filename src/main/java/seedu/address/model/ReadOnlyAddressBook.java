@@ -1,6 +1,9 @@
 package seedu.address.model;
 
+import java.util.List;
+
 import javafx.collections.ObservableList;
+import seedu.address.model.payment.LedgerEntry;
 import seedu.address.model.person.Person;
 
 /**
@@ -14,4 +17,17 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Person> getPersonList();
 
+    /**
+     * Returns an unmodifiable view of the payment ledger entries, oldest first.
+     */
+    List<LedgerEntry> getLedgerEntries();
+
+    /**
+     * Returns the payment ledger entries recorded so far, oldest first, as a list that does not change afterwards
+     * and can be read from another thread. The default implementation copies the entries.
+     */
+    default List<LedgerEntry> getLedgerEntriesSnapshot() {
+        return List.copyOf(getLedgerEntries());
+    }
+
 }
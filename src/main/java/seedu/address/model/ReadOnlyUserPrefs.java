@@ -13,4 +13,10 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    AddressBookFormat getAddressBookFormat();
+
+    long getAddressBookSaveDelayMillis();
+
+    boolean isAddressBookLoadedInBackground();
+
 }
@@ -15,6 +15,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
+    private AddressBookFormat addressBookFormat = AddressBookFormat.JSON;
+    private long addressBookSaveDelayMillis = 500;
+    private boolean addressBookLoadedInBackground = true;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +39,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setAddressBookFormat(newUserPrefs.getAddressBookFormat());
+        setAddressBookSaveDelayMillis(newUserPrefs.getAddressBookSaveDelayMillis());
+        setAddressBookLoadedInBackground(newUserPrefs.isAddressBookLoadedInBackground());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +62,41 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public AddressBookFormat getAddressBookFormat() {
+        return addressBookFormat;
+    }
+
+    public void setAddressBookFormat(AddressBookFormat addressBookFormat) {
+        requireNonNull(addressBookFormat);
+        this.addressBookFormat = addressBookFormat;
+    }
+
+    public long getAddressBookSaveDelayMillis() {
+        return addressBookSaveDelayMillis;
+    }
+
+    /**
+     * Sets how long after a command changes the address book it is saved, so that the changes of all commands
+     * executed within that time are saved together.
+     */
+    public void setAddressBookSaveDelayMillis(long addressBookSaveDelayMillis) {
+        if (addressBookSaveDelayMillis < 0) {
+            throw new IllegalArgumentException("Save delay cannot be negative: " + addressBookSaveDelayMillis);
+        }
+        this.addressBookSaveDelayMillis = addressBookSaveDelayMillis;
+    }
+
+    public boolean isAddressBookLoadedInBackground() {
+        return addressBookLoadedInBackground;
+    }
+
+    /**
+     * Sets whether the address book is read after the main window is shown, rather than before.
+     */
+    public void setAddressBookLoadedInBackground(boolean addressBookLoadedInBackground) {
+        this.addressBookLoadedInBackground = addressBookLoadedInBackground;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +110,16 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && addressBookFormat == otherUserPrefs.addressBookFormat
+                && addressBookSaveDelayMillis == otherUserPrefs.addressBookSaveDelayMillis
+                && addressBookLoadedInBackground == otherUserPrefs.addressBookLoadedInBackground;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, addressBookFormat, addressBookSaveDelayMillis,
+                addressBookLoadedInBackground);
     }
 
     @Override
@@ -82,6 +127,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nLocal data file format : " + addressBookFormat);
+        sb.append("\nSave delay (ms) : " + addressBookSaveDelayMillis);
+        sb.append("\nLoaded in background : " + addressBookLoadedInBackground);
         return sb.toString();
     }
 
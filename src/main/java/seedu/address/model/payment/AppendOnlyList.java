@@ -0,0 +1,84 @@
+package seedu.address.model.payment;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * A list that can only grow at its end, stored in fixed-size chunks that are never moved or overwritten once
+ * filled in.
+ * Because of that, {@link #prefix()} can give a view of the elements added so far in O(1), which never changes as
+ * more elements are added, and which can be read from another thread once handed over to it safely.
+ */
+class AppendOnlyList<E> extends AbstractList<E> implements RandomAccess {
+
+    private static final int CHUNK_SIZE = 1024;
+
+    /** Grown by copying, so a prefix keeps the chunks it was taken with. */
+    private Object[][] chunks = new Object[1][];
+    private int size;
+
+    @Override
+    public boolean add(E element) {
+        int chunk = size / CHUNK_SIZE;
+        if (chunk == chunks.length) {
+            chunks = Arrays.copyOf(chunks, chunks.length * 2);
+        }
+        if (chunks[chunk] == null) {
+            chunks[chunk] = new Object[CHUNK_SIZE];
+        }
+        chunks[chunk][size % CHUNK_SIZE] = element;
+        size++;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public E get(int index) {
+        Objects.checkIndex(index, size);
+        return elementAt(chunks, index);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns an unmodifiable view of the elements added so far, which stays the same as more are added.
+     */
+    List<E> prefix() {
+        return new Prefix<>(chunks, size);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E> E elementAt(Object[][] chunks, int index) {
+        return (E) chunks[index / CHUNK_SIZE][index % CHUNK_SIZE];
+    }
+
+    /**
+     * The first {@code size} elements of the list at the time the view was taken.
+     */
+    private static class Prefix<E> extends AbstractList<E> implements RandomAccess {
+        private final Object[][] chunks;
+        private final int size;
+
+        Prefix(Object[][] chunks, int size) {
+            this.chunks = chunks;
+            this.size = size;
+        }
+
+        @Override
+        public E get(int index) {
+            Objects.checkIndex(index, size);
+            return elementAt(chunks, index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package seedu.address.model.payment;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.YearMonth;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Represents one event in a {@code PaymentLedger}: a change to the fees a student owes, or has paid, for a month.
+ * Entries are never edited once recorded; a correction is recorded as another entry with the opposite amounts.
+ * Guarantees: immutable; details are present and not null.
+ */
+public class LedgerEntry {
+
+    private final String studentName;
+    private final long recordedEpochDay;
+    private final YearMonth month;
+    private final long outstandingChange;
+    private final long receivedChange;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public LedgerEntry(String studentName, long recordedEpochDay, YearMonth month, long outstandingChange,
+            long receivedChange) {
+        requireAllNonNull(studentName, month);
+        this.studentName = studentName;
+        this.recordedEpochDay = recordedEpochDay;
+        this.month = month;
+        this.outstandingChange = outstandingChange;
+        this.receivedChange = receivedChange;
+    }
+
+    public String getStudentName() {
+        return studentName;
+    }
+
+    public long getRecordedEpochDay() {
+        return recordedEpochDay;
+    }
+
+    /**
+     * Returns the month the fees in this entry are attributed to.
+     */
+    public YearMonth getMonth() {
+        return month;
+    }
+
+    public long getOutstandingChange() {
+        return outstandingChange;
+    }
+
+    public long getReceivedChange() {
+        return receivedChange;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof LedgerEntry)) {
+            return false;
+        }
+
+        LedgerEntry otherEntry = (LedgerEntry) other;
+        return studentName.equals(otherEntry.studentName)
+                && recordedEpochDay == otherEntry.recordedEpochDay
+                && month.equals(otherEntry.month)
+                && outstandingChange == otherEntry.outstandingChange
+                && receivedChange == otherEntry.receivedChange;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(studentName, recordedEpochDay, month, outstandingChange, receivedChange);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("studentName", studentName)
+                .add("recordedEpochDay", recordedEpochDay)
+                .add("month", month)
+                .add("outstandingChange", outstandingChange)
+                .add("receivedChange", receivedChange)
+                .toString();
+    }
+}
@@ -0,0 +1,66 @@
+package seedu.address.model.payment;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * The fees outstanding and received for a month, or a range of months, of a {@code PaymentLedger}.
+ * Guarantees: immutable.
+ */
+public class MonthlyTotal {
+
+    public static final MonthlyTotal ZERO = new MonthlyTotal(0, 0);
+
+    private final long outstanding;
+    private final long received;
+
+    /**
+     * Creates a total of {@code outstanding} fees owed and {@code received} fees paid.
+     */
+    public MonthlyTotal(long outstanding, long received) {
+        this.outstanding = outstanding;
+        this.received = received;
+    }
+
+    public long getOutstanding() {
+        return outstanding;
+    }
+
+    public long getReceived() {
+        return received;
+    }
+
+    /**
+     * Returns the sum of this total and {@code other}.
+     */
+    public MonthlyTotal plus(MonthlyTotal other) {
+        return new MonthlyTotal(outstanding + other.outstanding, received + other.received);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof MonthlyTotal)) {
+            return false;
+        }
+
+        MonthlyTotal otherTotal = (MonthlyTotal) other;
+        return outstanding == otherTotal.outstanding && received == otherTotal.received;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(outstanding) * 31 + Long.hashCode(received);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("outstanding", outstanding)
+                .add("received", received)
+                .toString();
+    }
+}
@@ -0,0 +1,215 @@
+package seedu.address.model.payment;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import seedu.address.model.person.PaymentInfo;
+import seedu.address.model.person.Person;
+
+/**
+ * Append-only history of the fees owed and paid by the students in an address book.
+ * Every change to a student's {@code PaymentInfo} is recorded as {@link LedgerEntry} events that move fees between
+ * months, so past payments are never lost when a payment is overwritten.
+ *
+ * Running totals are kept per month as entries are appended, so the totals over a range of months are answered by
+ * adding up one total per month instead of replaying the entries.
+ *
+ * Entries are kept in an {@link AppendOnlyList}, and replacing or truncating them starts a new list, so the entries
+ * given by {@link #getEntriesSnapshot()} are never changed afterwards.
+ */
+public class PaymentLedger {
+
+    /**
+     * Appended to the name of a removed student to give the name their paid fees are kept under. Names of students
+     * cannot contain brackets, so a student added later with the same name starts without any fees.
+     */
+    static final String REMOVED_SUFFIX = " (removed)";
+
+    private AppendOnlyList<LedgerEntry> entries = new AppendOnlyList<>();
+    private Map<String, List<LedgerEntry>> entriesByStudent = new HashMap<>();
+    private NavigableMap<YearMonth, MonthlyTotal> totalsByMonth = new TreeMap<>();
+
+    /** The net fees each student currently contributes to each month. Months that net to zero are left out. */
+    private Map<String, NavigableMap<YearMonth, MonthlyTotal>> balancesByStudent = new HashMap<>();
+
+    /**
+     * Replaces the contents of this ledger with {@code entries}, rebuilding the running totals.
+     */
+    public void setEntries(List<LedgerEntry> entries) {
+        requireNonNull(entries);
+        this.entries = new AppendOnlyList<>();
+        entriesByStudent.clear();
+        totalsByMonth.clear();
+        balancesByStudent.clear();
+        entries.forEach(this::append);
+    }
+
+    /**
+     * Replaces the contents of this ledger with those of {@code other}, taking over its entries and running totals
+     * instead of replaying the entries. {@code other} must not be used afterwards.
+     */
+    public void takeOver(PaymentLedger other) {
+        requireNonNull(other);
+        entries = other.entries;
+        entriesByStudent = other.entriesByStudent;
+        totalsByMonth = other.totalsByMonth;
+        balancesByStudent = other.balancesByStudent;
+    }
+
+    /**
+     * Discards every entry after the first {@code size} entries.
+     * Used to undo the entries of a change that did not go through; recorded history is otherwise never removed.
+     */
+    public void truncate(int size) {
+        if (size < entries.size()) {
+            setEntries(entries.subList(0, size));
+        }
+    }
+
+    /**
+     * Records the payment change of a student who was {@code before} and is now {@code after}.
+     * {@code before} is null if the student was just added. {@code after} is null if the student was removed, in which
+     * case fees they still owe are written off but fees they paid are kept, moved off their name to the name with
+     * {@link #REMOVED_SUFFIX}. A student who was renamed has their balance moved to their new name. Both moves are
+     * recorded as entries, so that the entries alone give the same balances.
+     *
+     * @param todayEpochDay the day the change is recorded, which is also the month of fees without a payment date.
+     */
+    public void recordChange(Person before, Person after, long todayEpochDay) {
+        String name = after == null ? before.getName().fullName : after.getName().fullName;
+        NavigableMap<YearMonth, MonthlyTotal> balance = new TreeMap<>();
+        if (before != null) {
+            balance.putAll(balancesByStudent.getOrDefault(before.getName().fullName, Collections.emptyNavigableMap()));
+        }
+        if (before != null && !before.getName().fullName.equals(name)) {
+            moveBalance(before.getName().fullName, name, balance, todayEpochDay);
+        }
+
+        NavigableMap<YearMonth, MonthlyTotal> target = new TreeMap<>();
+        if (after == null) {
+            balance.forEach((month, total) -> target.put(month, new MonthlyTotal(0, total.getReceived())));
+        } else {
+            addContribution(target, after.getPaymentInfo(), balance, todayEpochDay);
+        }
+
+        TreeSet<YearMonth> months = new TreeSet<>(balance.keySet());
+        months.addAll(target.keySet());
+        for (YearMonth month : months) {
+            MonthlyTotal current = balance.getOrDefault(month, MonthlyTotal.ZERO);
+            MonthlyTotal wanted = target.getOrDefault(month, MonthlyTotal.ZERO);
+            long outstandingChange = wanted.getOutstanding() - current.getOutstanding();
+            long receivedChange = wanted.getReceived() - current.getReceived();
+            if (outstandingChange != 0 || receivedChange != 0) {
+                append(new LedgerEntry(name, todayEpochDay, month, outstandingChange, receivedChange));
+            }
+        }
+
+        NavigableMap<YearMonth, MonthlyTotal> kept = balancesByStudent.get(name);
+        if (after == null && kept != null) {
+            moveBalance(name, name + REMOVED_SUFFIX, new TreeMap<>(kept), todayEpochDay);
+        }
+    }
+
+    /**
+     * Returns every entry, oldest first.
+     */
+    public List<LedgerEntry> getEntries() {
+        return Collections.unmodifiableList(entries);
+    }
+
+    /**
+     * Returns the entries recorded so far, oldest first, as a list that does not change afterwards, not even when
+     * the ledger is truncated or replaced. Costs O(1), and the list can be read from another thread.
+     */
+    public List<LedgerEntry> getEntriesSnapshot() {
+        return entries.prefix();
+    }
+
+    /**
+     * Returns the entries recorded for the student named {@code studentName}, oldest first.
+     */
+    public List<LedgerEntry> getEntriesFor(String studentName) {
+        requireNonNull(studentName);
+        return Collections.unmodifiableList(entriesByStudent.getOrDefault(studentName, Collections.emptyList()));
+    }
+
+    /**
+     * Returns the totals of the months from {@code from} to {@code to} inclusive that have any entries, by month.
+     */
+    public NavigableMap<YearMonth, MonthlyTotal> getMonthlyTotals(YearMonth from, YearMonth to) {
+        requireNonNull(from);
+        requireNonNull(to);
+        return Collections.unmodifiableNavigableMap(totalsByMonth.subMap(from, true, to, true));
+    }
+
+    /**
+     * Returns the sum of the totals of the months from {@code from} to {@code to} inclusive.
+     */
+    public MonthlyTotal getTotal(YearMonth from, YearMonth to) {
+        return getMonthlyTotals(from, to).values().stream().reduce(MonthlyTotal.ZERO, MonthlyTotal::plus);
+    }
+
+    /**
+     * Moves {@code balance}, the balance of the student named {@code from}, to the name {@code to}, recording an entry
+     * that takes it off the old name and one that puts it on the new name for each month. Monthly totals are unchanged.
+     */
+    private void moveBalance(String from, String to, NavigableMap<YearMonth, MonthlyTotal> balance,
+            long todayEpochDay) {
+        balance.forEach((month, total) -> {
+            append(new LedgerEntry(from, todayEpochDay, month, -total.getOutstanding(), -total.getReceived()));
+            append(new LedgerEntry(to, todayEpochDay, month, total.getOutstanding(), total.getReceived()));
+        });
+    }
+
+    private void append(LedgerEntry entry) {
+        entries.add(entry);
+        entriesByStudent.computeIfAbsent(entry.getStudentName(), unused -> new ArrayList<>()).add(entry);
+        MonthlyTotal change = new MonthlyTotal(entry.getOutstandingChange(), entry.getReceivedChange());
+        totalsByMonth.merge(entry.getMonth(), change, MonthlyTotal::plus);
+
+        NavigableMap<YearMonth, MonthlyTotal> balance =
+                balancesByStudent.computeIfAbsent(entry.getStudentName(), unused -> new TreeMap<>());
+        MonthlyTotal updated = balance.getOrDefault(entry.getMonth(), MonthlyTotal.ZERO).plus(change);
+        if (updated.equals(MonthlyTotal.ZERO)) {
+            balance.remove(entry.getMonth());
+        } else {
+            balance.put(entry.getMonth(), updated);
+        }
+        if (balance.isEmpty()) {
+            balancesByStudent.remove(entry.getStudentName());
+        }
+    }
+
+    /**
+     * Adds the fee of {@code paymentInfo} to {@code target}, as received if it is paid and outstanding otherwise.
+     * The fee belongs to the month of the payment date. Without a payment date, it stays in the earliest month the
+     * student already has fees in, or goes to the current month.
+     */
+    private static void addContribution(NavigableMap<YearMonth, MonthlyTotal> target, PaymentInfo paymentInfo,
+            NavigableMap<YearMonth, MonthlyTotal> balance, long todayEpochDay) {
+        long fee = paymentInfo.getPaymentFee();
+        if (fee == 0) {
+            return;
+        }
+
+        YearMonth month;
+        if (paymentInfo.hasPaymentDate()) {
+            month = YearMonth.from(LocalDate.ofEpochDay(paymentInfo.getPaymentEpochDay()));
+        } else if (!balance.isEmpty()) {
+            month = balance.firstKey();
+        } else {
+            month = YearMonth.from(LocalDate.ofEpochDay(todayEpochDay));
+        }
+        target.put(month, paymentInfo.isPaid() ? new MonthlyTotal(0, fee) : new MonthlyTotal(fee, 0));
+    }
+}
@@ -0,0 +1,107 @@
+package seedu.address.model.person;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Burkhard-Keller tree over words, keyed by Levenshtein distance.
+ * Each child edge is labelled with the distance between the child and its parent, so by the triangle inequality a
+ * search for words within distance {@code k} of a query only descends into edges labelled {@code d - k} to
+ * {@code d + k}, where {@code d} is the distance from the query to the current node.
+ * Words cannot be removed; callers discard the tree and rebuild it instead.
+ */
+class BkTree {
+
+    private Node root;
+    private int size;
+
+    /**
+     * Adds {@code word} to the tree if it is not already present.
+     */
+    void add(String word) {
+        if (root == null) {
+            root = new Node(word);
+            size++;
+            return;
+        }
+        Node node = root;
+        while (true) {
+            int distance = distance(word, node.word);
+            if (distance == 0) {
+                return;
+            }
+            Node child = node.children.get(distance);
+            if (child == null) {
+                node.children.put(distance, new Node(word));
+                size++;
+                return;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * Returns the number of words in the tree.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Passes every word within {@code maxDistance} of {@code query}, and its distance, to {@code consumer}.
+     */
+    void search(String query, int maxDistance, ObjIntConsumer<String> consumer) {
+        if (root == null) {
+            return;
+        }
+        Deque<Node> pending = new ArrayDeque<>();
+        pending.push(root);
+        while (!pending.isEmpty()) {
+            Node node = pending.pop();
+            int distance = distance(query, node.word);
+            if (distance <= maxDistance) {
+                consumer.accept(node.word, distance);
+            }
+            for (int edge = Math.max(1, distance - maxDistance); edge <= distance + maxDistance; edge++) {
+                Node child = node.children.get(edge);
+                if (child != null) {
+                    pending.push(child);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the Levenshtein distance between {@code first} and {@code second}.
+     */
+    static int distance(String first, String second) {
+        int[] previous = new int[second.length() + 1];
+        int[] current = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            current[0] = i;
+            for (int j = 1; j <= second.length(); j++) {
+                int substitution = previous[j - 1] + (first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[second.length()];
+    }
+
+    private static class Node {
+        private final String word;
+        private final Map<Integer, Node> children = new HashMap<>();
+
+        Node(String word) {
+            this.word = word;
+        }
+    }
+}
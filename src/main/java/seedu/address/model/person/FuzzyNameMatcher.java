@@ -0,0 +1,69 @@
+package seedu.address.model.person;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Accepts the persons with a name word within a small edit distance of any of the keywords given, and ranks them
+ * by that distance.
+ * Keywords of up to {@value #SHORT_KEYWORD_LENGTH} characters tolerate one edit, longer keywords tolerate two.
+ *
+ * Matches are looked up in the name index once and reused until the index changes.
+ */
+public class FuzzyNameMatcher implements Predicate<Person> {
+
+    public static final int SHORT_KEYWORD_LENGTH = 4;
+
+    private final Supplier<Map<Person, Integer>> lookup;
+    private final LongSupplier indexVersion;
+    private long matchedVersion;
+    private Map<Person, Integer> distances;
+
+    FuzzyNameMatcher(Supplier<Map<Person, Integer>> lookup, LongSupplier indexVersion) {
+        this.lookup = lookup;
+        this.indexVersion = indexVersion;
+        refresh();
+    }
+
+    /**
+     * Returns the number of edits a keyword may be away from a name word and still match it.
+     */
+    public static int getMaxDistance(String keyword) {
+        return keyword.length() <= SHORT_KEYWORD_LENGTH ? 1 : 2;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return getDistances().containsKey(person);
+    }
+
+    /**
+     * Returns the smallest edit distance between a keyword and a word of {@code person}'s name, or
+     * {@code Integer.MAX_VALUE} if {@code person} does not match.
+     */
+    public int distanceTo(Person person) {
+        return getDistances().getOrDefault(person, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns a comparator that orders closer matches first.
+     */
+    public Comparator<Person> byDistance() {
+        return Comparator.comparingInt(this::distanceTo);
+    }
+
+    private Map<Person, Integer> getDistances() {
+        if (matchedVersion != indexVersion.getAsLong()) {
+            refresh();
+        }
+        return distances;
+    }
+
+    private void refresh() {
+        matchedVersion = indexVersion.getAsLong();
+        distances = lookup.get();
+    }
+}
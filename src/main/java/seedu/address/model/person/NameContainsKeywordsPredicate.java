@@ -8,18 +8,35 @@ import seedu.address.commons.util.ToStringBuilder;
 
 /**
  * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
+ * A keyword ending with {@link #PREFIX_WILDCARD} matches any word of the name that starts with the rest of the
+ * keyword; any other keyword must match a whole word.
  */
 public class NameContainsKeywordsPredicate implements Predicate<Person> {
+    public static final String PREFIX_WILDCARD = "*";
+
     private final List<String> keywords;
 
     public NameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
     }
 
+    /**
+     * Returns true if {@code keyword} asks for a prefix match.
+     */
+    public static boolean isPrefixKeyword(String keyword) {
+        return keyword.endsWith(PREFIX_WILDCARD);
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword));
+        return keywords.stream().anyMatch(keyword -> isPrefixKeyword(keyword)
+                ? StringUtil.containsWordWithPrefixIgnoreCase(person.getName().fullName,
+                        keyword.substring(0, keyword.length() - PREFIX_WILDCARD.length()))
+                : StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword));
     }
 
     @Override
@@ -2,11 +2,17 @@ package seedu.address.model.person;
 
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
 import seedu.address.commons.util.StringUtil;
 
 /**
  * Represents a Person's payment info in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidFee(int)} and {@link #isValidDate(String)}
+ *
+ * The payment date is parsed once, when the payment info is built, and kept as an epoch day so that date comparisons
+ * do not need to parse or allocate. It is formatted back to {@code dd-MM-yyyy} only for display and storage.
  */
 public class PaymentInfo {
     public static final String MESSAGE_CONSTRAINTS_FEE =
@@ -16,8 +22,11 @@ public class PaymentInfo {
     public static final String MESSAGE_CONSTRAINTS_STATUS =
             "Payment Status should only be either 'paid' or 'waiting', and it should not be blank";
 
+    /** Epoch day used when there is no payment date. */
+    public static final long NO_DATE = Long.MIN_VALUE;
+
     private final int paymentFee;
-    private final String paymentDate;
+    private final long paymentEpochDay;
     private final String paymentStatus;
 
     /**
@@ -28,10 +37,9 @@ public class PaymentInfo {
      */
     private PaymentInfo(Builder builder) {
         checkArgument(isValidFee(builder.paymentFee), MESSAGE_CONSTRAINTS_FEE);
-        checkArgument(isValidDate(builder.paymentDate), MESSAGE_CONSTRAINTS_DATE);
         checkArgument(isValidStatus(builder.paymentStatus), MESSAGE_CONSTRAINTS_STATUS);
         this.paymentFee = builder.paymentFee;
-        this.paymentDate = builder.paymentDate;
+        this.paymentEpochDay = toEpochDay(builder.paymentDate);
         if (builder.paymentStatus.isEmpty()) {
             this.paymentStatus = "";
         } else {
@@ -94,6 +102,22 @@ public class PaymentInfo {
         return StringUtil.isValidDate(s) || s.isEmpty();
     }
 
+    /**
+     * Returns the epoch day of {@code date}, or {@link #NO_DATE} if {@code date} is empty.
+     *
+     * @throws IllegalArgumentException if {@code date} is not a valid date.
+     */
+    private static long toEpochDay(String date) {
+        if (date.isEmpty()) {
+            return NO_DATE;
+        }
+        try {
+            return LocalDate.parse(date, StringUtil.DATE_FORMATTER).toEpochDay();
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException(MESSAGE_CONSTRAINTS_DATE, e);
+        }
+    }
+
     /**
      * Returns true if a given string is a valid status ("paid" or "waiting").
      */
@@ -105,8 +129,46 @@ public class PaymentInfo {
         return paymentFee;
     }
 
+    /**
+     * Returns the payment date in {@code dd-MM-yyyy} format, or an empty string if there is no payment date.
+     */
     public String getPaymentDate() {
-        return paymentDate;
+        return hasPaymentDate() ? LocalDate.ofEpochDay(paymentEpochDay).format(StringUtil.DATE_FORMATTER) : "";
+    }
+
+    /**
+     * Returns the payment date as an epoch day, or {@link #NO_DATE} if there is no payment date.
+     */
+    public long getPaymentEpochDay() {
+        return paymentEpochDay;
+    }
+
+    public boolean hasPaymentDate() {
+        return paymentEpochDay != NO_DATE;
+    }
+
+    public boolean isPaid() {
+        return paymentStatus.equalsIgnoreCase("paid");
+    }
+
+    public boolean isWaiting() {
+        return paymentStatus.equalsIgnoreCase("waiting");
+    }
+
+    /**
+     * Returns the number of days from {@code todayEpochDay} until the payment date, which is negative if the payment
+     * date has passed. There must be a payment date.
+     */
+    public long getDaysUntilDue(long todayEpochDay) {
+        assert hasPaymentDate();
+        return paymentEpochDay - todayEpochDay;
+    }
+
+    /**
+     * Returns true if the payment is not paid and its payment date is before {@code todayEpochDay}.
+     */
+    public boolean isOverdue(long todayEpochDay) {
+        return !isPaid() && hasPaymentDate() && paymentEpochDay < todayEpochDay;
     }
 
     public String getPaymentStatus() {
@@ -118,7 +180,7 @@ public class PaymentInfo {
     }
 
     public String getPaymentDateString() {
-        return "Date: " + paymentDate;
+        return "Date: " + getPaymentDate();
     }
 
     public String getPaymentStatusString() {
@@ -143,7 +205,7 @@ public class PaymentInfo {
 
         PaymentInfo otherPaymentInfo = (PaymentInfo) other;
         return paymentFee == otherPaymentInfo.paymentFee
-                && paymentDate.equals(otherPaymentInfo.paymentDate)
+                && paymentEpochDay == otherPaymentInfo.paymentEpochDay
                 && paymentStatus.equals(otherPaymentInfo.paymentStatus);
     }
 }
@@ -0,0 +1,103 @@
+package seedu.address.model.person;
+
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+
+/**
+ * Due-date index over the unpaid payments of the persons in a {@code UniquePersonList}.
+ * Persons whose {@code PaymentInfo} has a payment date and is not paid are kept in a balanced search tree ordered by
+ * payment date, so the {@code k} persons due by a given day are read off the front of the tree in
+ * {@code O(log n + k)}, and a payment update or deletion costs {@code O(log n)}.
+ *
+ * A tree is used instead of a heap because persons must also be removed when their payment changes.
+ *
+ * The lookup is what the index speeds up. A predicate from {@link #matcher(long)} is still tested against every
+ * person when the displayed list is filtered, so listing the persons due costs {@code O(n)} set lookups, plus
+ * {@code O(k log k)} to sort the {@code k} matches by due date.
+ */
+class PersonDueDateIndex {
+
+    private TreeSet<Person> unpaidPersons = new TreeSet<>(UniquePersonList.DUE_DATE_ORDER);
+
+    /** Incremented on every change so that cached query results can detect staleness. */
+    private long version;
+
+    /**
+     * Adds {@code person} to the index if it has an unpaid payment with a payment date.
+     */
+    void add(Person person) {
+        if (isTracked(person)) {
+            unpaidPersons.add(person);
+            version++;
+        }
+    }
+
+    /**
+     * Removes {@code person} from the index.
+     */
+    void remove(Person person) {
+        if (isTracked(person)) {
+            unpaidPersons.remove(person);
+            version++;
+        }
+    }
+
+    /**
+     * Replaces the contents of the index with {@code persons}.
+     */
+    void reset(List<Person> persons) {
+        unpaidPersons.clear();
+        persons.forEach(this::add);
+        version++;
+    }
+
+    /**
+     * Replaces the contents of the index with those of {@code other}, taking over its tree instead of rebuilding it.
+     * {@code other} must not be used afterwards.
+     */
+    void takeOver(PersonDueDateIndex other) {
+        unpaidPersons = other.unpaidPersons;
+        version++;
+    }
+
+    /**
+     * Returns the persons with an unpaid payment due on or before {@code lastDueEpochDay}, earliest first.
+     */
+    Set<Person> getPersonsDueBy(long lastDueEpochDay) {
+        Set<Person> duePersons = PersonTrie.newIdentitySet();
+        for (Person person : unpaidPersons) {
+            if (person.getPaymentInfo().getPaymentEpochDay() > lastDueEpochDay) {
+                break;
+            }
+            duePersons.add(person);
+        }
+        return duePersons;
+    }
+
+    /**
+     * Returns a predicate that accepts the indexed persons found by {@link #getPersonsDueBy(long)}.
+     * The lookup is done once and the result is reused until the index changes.
+     */
+    Predicate<Person> matcher(long lastDueEpochDay) {
+        return new Predicate<>() {
+            private long matchedVersion = version;
+            private Set<Person> matched = getPersonsDueBy(lastDueEpochDay);
+
+            @Override
+            public boolean test(Person person) {
+                if (matchedVersion != version) {
+                    matched = getPersonsDueBy(lastDueEpochDay);
+                    matchedVersion = version;
+                }
+                return matched.contains(person);
+            }
+        };
+    }
+
+    private static boolean isTracked(Person person) {
+        PaymentInfo paymentInfo = person.getPaymentInfo();
+        return paymentInfo.hasPaymentDate() && !paymentInfo.isPaid();
+    }
+}
@@ -0,0 +1,164 @@
+package seedu.address.model.person;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * Bitmap index over the low-cardinality fields of the persons in a {@code UniquePersonList}.
+ * Every indexed person occupies a slot, and each distinct {@code EduLevel}, {@code CurrentGrade},
+ * {@code ExpectedGrade} and {@code Tag} value owns a {@code BitSet} with the slots of the persons that have that
+ * value. Queries over several fields are answered by ANDing the corresponding bitmaps, so no person is compared
+ * field by field.
+ *
+ * Persons are tracked by reference, so only the instances stored in the list are recognised.
+ */
+class PersonFieldIndex {
+
+    private List<Person> personsBySlot = new ArrayList<>();
+    private Map<Person, Integer> slotsByPerson = new IdentityHashMap<>();
+    private BitSet occupiedSlots = new BitSet();
+    private Map<EduLevel, BitSet> slotsByEduLevel = new HashMap<>();
+    private Map<CurrentGrade, BitSet> slotsByCurrentGrade = new HashMap<>();
+    private Map<ExpectedGrade, BitSet> slotsByExpectedGrade = new HashMap<>();
+    private Map<Tag, BitSet> slotsByTag = new HashMap<>();
+
+    /** Incremented on every change so that cached query results can detect staleness. */
+    private long version;
+
+    /**
+     * Adds {@code person} to the index, reusing the lowest free slot.
+     */
+    void add(Person person) {
+        int slot = occupiedSlots.nextClearBit(0);
+        if (slot == personsBySlot.size()) {
+            personsBySlot.add(person);
+        } else {
+            personsBySlot.set(slot, person);
+        }
+        slotsByPerson.put(person, slot);
+        occupiedSlots.set(slot);
+        slotsByEduLevel.computeIfAbsent(person.getEduLevel(), unused -> new BitSet()).set(slot);
+        slotsByCurrentGrade.computeIfAbsent(person.getCurrentGrade(), unused -> new BitSet()).set(slot);
+        slotsByExpectedGrade.computeIfAbsent(person.getExpectedGrade(), unused -> new BitSet()).set(slot);
+        for (Tag tag : person.getTags()) {
+            slotsByTag.computeIfAbsent(tag, unused -> new BitSet()).set(slot);
+        }
+        version++;
+    }
+
+    /**
+     * Removes {@code person} from the index and frees its slot.
+     * {@code person} must be the same instance that was added.
+     */
+    void remove(Person person) {
+        int slot = slotsByPerson.remove(person);
+        personsBySlot.set(slot, null);
+        occupiedSlots.clear(slot);
+        clearSlot(slotsByEduLevel, person.getEduLevel(), slot);
+        clearSlot(slotsByCurrentGrade, person.getCurrentGrade(), slot);
+        clearSlot(slotsByExpectedGrade, person.getExpectedGrade(), slot);
+        for (Tag tag : person.getTags()) {
+            clearSlot(slotsByTag, tag, slot);
+        }
+        version++;
+    }
+
+    /**
+     * Replaces the contents of the index with {@code persons}.
+     */
+    void reset(List<Person> persons) {
+        personsBySlot.clear();
+        slotsByPerson.clear();
+        occupiedSlots.clear();
+        slotsByEduLevel.clear();
+        slotsByCurrentGrade.clear();
+        slotsByExpectedGrade.clear();
+        slotsByTag.clear();
+        persons.forEach(this::add);
+        version++;
+    }
+
+    /**
+     * Replaces the contents of the index with those of {@code other}, taking over its slots and bitmaps instead of
+     * rebuilding them. {@code other} must not be used afterwards.
+     */
+    void takeOver(PersonFieldIndex other) {
+        personsBySlot = other.personsBySlot;
+        slotsByPerson = other.slotsByPerson;
+        occupiedSlots = other.occupiedSlots;
+        slotsByEduLevel = other.slotsByEduLevel;
+        slotsByCurrentGrade = other.slotsByCurrentGrade;
+        slotsByExpectedGrade = other.slotsByExpectedGrade;
+        slotsByTag = other.slotsByTag;
+        version++;
+    }
+
+    /**
+     * Returns the persons that match every non-null field given and have every tag in {@code tags}, if given.
+     */
+    Set<Person> getPersonsWithFields(EduLevel eduLevel, CurrentGrade currentGrade, ExpectedGrade expectedGrade,
+            Set<Tag> tags) {
+        BitSet slots = (BitSet) occupiedSlots.clone();
+        if (eduLevel != null) {
+            slots.and(slotsByEduLevel.getOrDefault(eduLevel, new BitSet()));
+        }
+        if (currentGrade != null) {
+            slots.and(slotsByCurrentGrade.getOrDefault(currentGrade, new BitSet()));
+        }
+        if (expectedGrade != null) {
+            slots.and(slotsByExpectedGrade.getOrDefault(expectedGrade, new BitSet()));
+        }
+        if (tags != null) {
+            for (Tag tag : tags) {
+                slots.and(slotsByTag.getOrDefault(tag, new BitSet()));
+            }
+        }
+
+        Set<Person> persons = PersonTrie.newIdentitySet();
+        for (int slot = slots.nextSetBit(0); slot >= 0; slot = slots.nextSetBit(slot + 1)) {
+            persons.add(personsBySlot.get(slot));
+        }
+        return persons;
+    }
+
+    /**
+     * Returns a predicate that accepts the indexed persons found by
+     * {@link #getPersonsWithFields(EduLevel, CurrentGrade, ExpectedGrade, Set)}.
+     * The lookup is done once and the result is reused until the index changes.
+     */
+    Predicate<Person> matcher(EduLevel eduLevel, CurrentGrade currentGrade, ExpectedGrade expectedGrade,
+            Set<Tag> tags) {
+        return new Predicate<>() {
+            private long matchedVersion = version;
+            private Set<Person> matched = getPersonsWithFields(eduLevel, currentGrade, expectedGrade, tags);
+
+            @Override
+            public boolean test(Person person) {
+                if (matchedVersion != version) {
+                    matched = getPersonsWithFields(eduLevel, currentGrade, expectedGrade, tags);
+                    matchedVersion = version;
+                }
+                return matched.contains(person);
+            }
+        };
+    }
+
+    /**
+     * Clears {@code slot} from the bitmap of {@code value}, dropping the bitmap once no person has the value.
+     */
+    private static <T> void clearSlot(Map<T, BitSet> slotsByValue, T value, int slot) {
+        BitSet slots = slotsByValue.get(value);
+        slots.clear(slot);
+        if (slots.isEmpty()) {
+            slotsByValue.remove(value);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package seedu.address.model.person;
+
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Token index over the names of the persons in a {@code UniquePersonList}.
+ * Every name is split into lowercased words once, when the person is added, and the words are stored in a
+ * {@link PersonTrie}, so a full-word lookup walks the characters of the keyword and a prefix lookup collects the
+ * subtree below the prefix.
+ * The distinct words are also kept in a {@link BkTree}, so fuzzy lookups only measure the edit distance to the few
+ * words the tree cannot rule out. Words that no longer belong to any person stay in the tree until enough of them
+ * accumulate, at which point the tree is rebuilt from the trie.
+ *
+ * Persons are tracked by reference, so only the instances stored in the list are recognised.
+ */
+class PersonNameIndex {
+
+    private PersonTrie personsByWord = new PersonTrie();
+    private BkTree words = new BkTree();
+    private int liveWordCount;
+
+    /** Incremented on every change so that cached query results can detect staleness. */
+    private long version;
+
+    /**
+     * Adds {@code person} under every word of its name.
+     */
+    void add(Person person) {
+        for (String word : wordsOf(person)) {
+            if (personsByWord.add(word, person)) {
+                words.add(word);
+                liveWordCount++;
+            }
+        }
+        version++;
+    }
+
+    /**
+     * Removes {@code person} from every word of its name.
+     * {@code person} must be the same instance that was added.
+     */
+    void remove(Person person) {
+        for (String word : wordsOf(person)) {
+            if (personsByWord.remove(word, person)) {
+                liveWordCount--;
+            }
+        }
+        if (words.size() > 2 * liveWordCount) {
+            words = new BkTree();
+            personsByWord.forEachWord(words::add);
+        }
+        version++;
+    }
+
+    /**
+     * Replaces the contents of the index with {@code persons}.
+     */
+    void reset(List<Person> persons) {
+        personsByWord.clear();
+        words = new BkTree();
+        liveWordCount = 0;
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Replaces the contents of the index with those of {@code other}, taking over its structures instead of
+     * rebuilding them. {@code other} must not be used afterwards.
+     */
+    void takeOver(PersonNameIndex other) {
+        personsByWord = other.personsByWord;
+        words = other.words;
+        liveWordCount = other.liveWordCount;
+        version++;
+    }
+
+    /**
+     * Returns the persons whose name contains any of the {@code keywords}.
+     * A keyword ending with {@link NameContainsKeywordsPredicate#PREFIX_WILDCARD} matches every word that starts
+     * with the rest of the keyword; any other keyword must match a whole word. Matching is case insensitive.
+     */
+    Set<Person> lookup(List<String> keywords) {
+        Set<Person> matches = PersonTrie.newIdentitySet();
+        for (String keyword : keywords) {
+            if (NameContainsKeywordsPredicate.isPrefixKeyword(keyword)) {
+                personsByWord.collectWithPrefix(toToken(keyword.substring(0, keyword.length() - 1)), matches);
+            } else {
+                matches.addAll(personsByWord.get(toToken(keyword)));
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns a predicate that accepts the indexed persons whose name contains any of the {@code keywords}.
+     * The lookup is done once and the result is reused until the index changes.
+     */
+    Predicate<Person> matcher(List<String> keywords) {
+        return new Predicate<>() {
+            private long matchedVersion = version;
+            private Set<Person> matched = lookup(keywords);
+
+            @Override
+            public boolean test(Person person) {
+                if (matchedVersion != version) {
+                    matched = lookup(keywords);
+                    matchedVersion = version;
+                }
+                return matched.contains(person);
+            }
+        };
+    }
+
+    /**
+     * Returns the persons with a name word within {@link FuzzyNameMatcher#getMaxDistance(String)} edits of any of
+     * the {@code keywords}, mapped to the smallest such distance. Matching is case insensitive.
+     */
+    Map<Person, Integer> fuzzyLookup(List<String> keywords) {
+        Map<Person, Integer> distances = new IdentityHashMap<>();
+        for (String keyword : keywords) {
+            words.search(toToken(keyword), FuzzyNameMatcher.getMaxDistance(keyword), (word, distance) ->
+                    personsByWord.get(word).forEach(person -> distances.merge(person, distance, Math::min)));
+        }
+        return distances;
+    }
+
+    /**
+     * Returns a matcher that accepts and ranks the indexed persons found by {@link #fuzzyLookup(List)}.
+     */
+    FuzzyNameMatcher fuzzyMatcher(List<String> keywords) {
+        return new FuzzyNameMatcher(() -> fuzzyLookup(keywords), () -> version);
+    }
+
+    private static Set<String> wordsOf(Person person) {
+        Set<String> words = new HashSet<>();
+        for (String word : person.getName().fullName.split("\\s+")) {
+            if (!word.isEmpty()) {
+                words.add(toToken(word));
+            }
+        }
+        return words;
+    }
+
+    private static String toToken(String word) {
+        return word.toLowerCase(Locale.ROOT);
+    }
+}
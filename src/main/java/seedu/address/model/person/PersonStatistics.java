@@ -0,0 +1,155 @@
+package seedu.address.model.person;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Summary statistics over the persons in a {@code UniquePersonList}: how many persons there are at each education
+ * level, current grade and expected grade, how many have paid or are waiting to pay, and the fees received and
+ * outstanding.
+ * The counters are adjusted as persons are added and removed, so every statistic costs O(1) to maintain per change
+ * and is read without going through the list. Persons without a value for a field are not counted for that field.
+ */
+public class PersonStatistics {
+
+    private final Map<String, Integer> eduLevelCounts = new HashMap<>();
+    private final Map<String, Integer> currentGradeCounts = new HashMap<>();
+    private final Map<String, Integer> expectedGradeCounts = new HashMap<>();
+    private int personCount;
+    private int paidCount;
+    private int waitingCount;
+    private long receivedFees;
+    private long outstandingFees;
+
+    /**
+     * Counts {@code person} in every statistic.
+     */
+    void add(Person person) {
+        update(person, 1);
+    }
+
+    /**
+     * Removes {@code person} from every statistic.
+     */
+    void remove(Person person) {
+        update(person, -1);
+    }
+
+    /**
+     * Replaces the counted persons with {@code persons}.
+     */
+    void reset(List<Person> persons) {
+        eduLevelCounts.clear();
+        currentGradeCounts.clear();
+        expectedGradeCounts.clear();
+        personCount = 0;
+        paidCount = 0;
+        waitingCount = 0;
+        receivedFees = 0;
+        outstandingFees = 0;
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Replaces the counted persons with those counted by {@code other}, copying its counters instead of counting
+     * the persons again.
+     */
+    void copyFrom(PersonStatistics other) {
+        eduLevelCounts.clear();
+        eduLevelCounts.putAll(other.eduLevelCounts);
+        currentGradeCounts.clear();
+        currentGradeCounts.putAll(other.currentGradeCounts);
+        expectedGradeCounts.clear();
+        expectedGradeCounts.putAll(other.expectedGradeCounts);
+        personCount = other.personCount;
+        paidCount = other.paidCount;
+        waitingCount = other.waitingCount;
+        receivedFees = other.receivedFees;
+        outstandingFees = other.outstandingFees;
+    }
+
+    public int getPersonCount() {
+        return personCount;
+    }
+
+    /**
+     * Returns the number of persons at each education level.
+     */
+    public Map<String, Integer> getEduLevelCounts() {
+        return Collections.unmodifiableMap(eduLevelCounts);
+    }
+
+    /**
+     * Returns the number of persons with each current grade.
+     */
+    public Map<String, Integer> getCurrentGradeCounts() {
+        return Collections.unmodifiableMap(currentGradeCounts);
+    }
+
+    /**
+     * Returns the number of persons with each expected grade.
+     */
+    public Map<String, Integer> getExpectedGradeCounts() {
+        return Collections.unmodifiableMap(expectedGradeCounts);
+    }
+
+    /**
+     * Returns the number of persons whose payment status is paid.
+     */
+    public int getPaidCount() {
+        return paidCount;
+    }
+
+    /**
+     * Returns the number of persons whose payment status is waiting.
+     */
+    public int getWaitingCount() {
+        return waitingCount;
+    }
+
+    /**
+     * Returns the sum of the fees that have been paid.
+     */
+    public long getReceivedFees() {
+        return receivedFees;
+    }
+
+    /**
+     * Returns the sum of the fees that have not been paid.
+     */
+    public long getOutstandingFees() {
+        return outstandingFees;
+    }
+
+    private void update(Person person, int change) {
+        personCount += change;
+        count(eduLevelCounts, person.getEduLevel().value, change);
+        count(currentGradeCounts, person.getCurrentGrade().value, change);
+        count(expectedGradeCounts, person.getExpectedGrade().value, change);
+
+        PaymentInfo paymentInfo = person.getPaymentInfo();
+        if (paymentInfo.isPaid()) {
+            paidCount += change;
+            receivedFees += (long) change * paymentInfo.getPaymentFee();
+        } else {
+            if (paymentInfo.isWaiting()) {
+                waitingCount += change;
+            }
+            outstandingFees += (long) change * paymentInfo.getPaymentFee();
+        }
+    }
+
+    private static void count(Map<String, Integer> counts, String value, int change) {
+        if (value.isEmpty()) {
+            return;
+        }
+        int updated = counts.getOrDefault(value, 0) + change;
+        if (updated == 0) {
+            counts.remove(value);
+        } else {
+            counts.put(value, updated);
+        }
+    }
+}
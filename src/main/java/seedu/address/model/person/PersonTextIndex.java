@@ -0,0 +1,180 @@
+package seedu.address.model.person;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * Full-text index over the name, phone, email, address and tags of the persons in a {@code UniquePersonList}.
+ * The fields are split into lowercased alphanumeric tokens once, when the person is added, and the person is filed
+ * under every substring of exactly {@value #GRAM_LENGTH} characters of its tokens. A token of length L has L - 2
+ * such grams, so a typical person is filed under a few dozen grams, and the index grows linearly with the text.
+ * A keyword of at least {@value #GRAM_LENGTH} characters is looked up by intersecting the persons filed under each of
+ * its grams, and only those candidates have their tokens searched for the keyword, so fragments such as part of a
+ * phone number or an email domain are found without a scan.
+ *
+ * Shorter grams are not indexed, as a one or two character gram is shared by most persons and would cost a set
+ * membership per person for little selectivity. A keyword of one or two characters is instead checked against the
+ * tokens of the persons matched by the other keywords, or of every person if it is the only keyword.
+ *
+ * Persons are tracked by reference, so only the instances stored in the list are recognised.
+ */
+class PersonTextIndex {
+
+    private static final int GRAM_LENGTH = 3;
+
+    private static final String TOKEN_DELIMITER = "[^\\p{Alnum}]+";
+
+    private Map<String, Set<Person>> personsByGram = new HashMap<>();
+    private Map<Person, List<String>> tokensByPerson = new IdentityHashMap<>();
+
+    /** Incremented on every change so that cached query results can detect staleness. */
+    private long version;
+
+    /**
+     * Adds {@code person} under every gram of every token of its text fields.
+     */
+    void add(Person person) {
+        List<String> tokens = tokensOf(textOf(person));
+        tokensByPerson.put(person, tokens);
+        gramsOf(tokens).forEach(gram -> personsByGram.computeIfAbsent(gram, unused -> PersonTrie.newIdentitySet())
+                .add(person));
+        version++;
+    }
+
+    /**
+     * Removes {@code person} from the index.
+     * {@code person} must be the same instance that was added.
+     */
+    void remove(Person person) {
+        for (String gram : gramsOf(tokensByPerson.remove(person))) {
+            Set<Person> persons = personsByGram.get(gram);
+            persons.remove(person);
+            if (persons.isEmpty()) {
+                personsByGram.remove(gram);
+            }
+        }
+        version++;
+    }
+
+    /**
+     * Replaces the contents of the index with {@code persons}.
+     */
+    void reset(List<Person> persons) {
+        personsByGram.clear();
+        tokensByPerson.clear();
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Replaces the contents of the index with those of {@code other}, taking over its maps instead of rebuilding
+     * them. {@code other} must not be used afterwards.
+     */
+    void takeOver(PersonTextIndex other) {
+        personsByGram = other.personsByGram;
+        tokensByPerson = other.tokensByPerson;
+        version++;
+    }
+
+    /**
+     * Returns the persons whose text fields contain every token of every keyword, ignoring case.
+     * Keywords are tokenized the same way as the fields, so {@code example.com} requires both {@code example} and
+     * {@code com}.
+     */
+    Set<Person> lookup(List<String> keywords) {
+        // the longest tokens are looked up first, as they are the most selective and can use the grams
+        List<String> tokens = keywords.stream().flatMap(keyword -> tokensOf(keyword).stream())
+                .sorted(Comparator.comparingInt(String::length).reversed())
+                .toList();
+        Set<Person> matches = null;
+        for (String token : tokens) {
+            matches = lookupToken(token, matches);
+            if (matches.isEmpty()) {
+                return matches;
+            }
+        }
+        return matches == null ? PersonTrie.newIdentitySet() : matches;
+    }
+
+    /**
+     * Returns a predicate that accepts the indexed persons found by {@link #lookup(List)}.
+     * The lookup is done once and the result is reused until the index changes.
+     */
+    Predicate<Person> matcher(List<String> keywords) {
+        return new Predicate<>() {
+            private long matchedVersion = version;
+            private Set<Person> matched = lookup(keywords);
+
+            @Override
+            public boolean test(Person person) {
+                if (matchedVersion != version) {
+                    matched = lookup(keywords);
+                    matchedVersion = version;
+                }
+                return matched.contains(person);
+            }
+        };
+    }
+
+    /**
+     * Returns the persons among {@code candidates}, or among all persons if it is null, with a token that contains
+     * {@code token}.
+     */
+    private Set<Person> lookupToken(String token, Set<Person> candidates) {
+        Set<Person> matches = PersonTrie.newIdentitySet();
+        if (token.length() < GRAM_LENGTH) {
+            matches.addAll(candidates == null ? tokensByPerson.keySet() : candidates);
+        } else {
+            List<Set<Person>> gramMatches = new ArrayList<>();
+            for (String gram : gramsOf(List.of(token))) {
+                gramMatches.add(personsByGram.getOrDefault(gram, Collections.emptySet()));
+            }
+            // intersecting from the rarest gram keeps the intermediate sets small
+            gramMatches.sort(Comparator.comparingInt(Set::size));
+            matches.addAll(candidates == null ? gramMatches.get(0) : candidates);
+            gramMatches.forEach(matches::retainAll);
+        }
+        // a person can have every gram of the keyword without having the keyword itself
+        matches.removeIf(person -> tokensByPerson.get(person).stream().noneMatch(each -> each.contains(token)));
+        return matches;
+    }
+
+    /**
+     * Returns every distinct substring of exactly {@link #GRAM_LENGTH} characters of {@code tokens}.
+     */
+    private static Set<String> gramsOf(List<String> tokens) {
+        Set<String> grams = new HashSet<>();
+        for (String token : tokens) {
+            for (int start = 0; start + GRAM_LENGTH <= token.length(); start++) {
+                grams.add(token.substring(start, start + GRAM_LENGTH));
+            }
+        }
+        return grams;
+    }
+
+    private static String textOf(Person person) {
+        StringBuilder text = new StringBuilder()
+                .append(person.getName().fullName).append(' ')
+                .append(person.getPhone().value).append(' ')
+                .append(person.getEmail().value).append(' ')
+                .append(person.getAddress().value);
+        // Only the tag name is searchable; the colour code after '#' is presentation.
+        person.getTags().forEach(tag -> text.append(' ').append(tag.fullTag.split("#")[0]));
+        return text.toString();
+    }
+
+    private static List<String> tokensOf(String text) {
+        return Stream.of(text.toLowerCase(Locale.ROOT).split(TOKEN_DELIMITER))
+                .filter(token -> !token.isEmpty())
+                .toList();
+    }
+}
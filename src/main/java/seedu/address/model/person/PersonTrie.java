@@ -0,0 +1,174 @@
+package seedu.address.model.person;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Trie from words to the persons filed under them.
+ * A word lookup walks the characters of the word, and a prefix lookup collects the subtree below the prefix.
+ * Branches are pruned as soon as no person is filed below them, and a node only allocates its children and persons
+ * once it has any, as most nodes are leaves or hold no persons.
+ *
+ * Persons are tracked by reference, and a person must be filed under a word at most once.
+ */
+class PersonTrie {
+
+    private final Node root = new Node();
+
+    /**
+     * Files {@code person} under {@code word}.
+     *
+     * @return true if no other person was filed under {@code word}.
+     */
+    boolean add(String word, Person person) {
+        Node node = root;
+        for (int i = 0; i < word.length(); i++) {
+            node = node.getOrAddChild(word.charAt(i));
+        }
+        boolean isNewWord = node.persons == null;
+        if (isNewWord) {
+            node.persons = newIdentitySet();
+        }
+        node.persons.add(person);
+        return isNewWord;
+    }
+
+    /**
+     * Removes {@code person} from {@code word}, which it must have been filed under.
+     *
+     * @return true if no person is filed under {@code word} any more.
+     */
+    boolean remove(String word, Person person) {
+        Deque<Node> path = new ArrayDeque<>();
+        Node node = root;
+        for (int i = 0; i < word.length(); i++) {
+            path.push(node);
+            node = node.getChild(word.charAt(i));
+        }
+        node.persons.remove(person);
+        boolean isWordGone = node.persons.isEmpty();
+        if (isWordGone) {
+            node.persons = null;
+        }
+        for (int i = word.length() - 1; i >= 0 && node.isEmpty(); i--) {
+            Node parent = path.pop();
+            parent.removeChild(word.charAt(i));
+            node = parent;
+        }
+        return isWordGone;
+    }
+
+    /**
+     * Removes every word and person.
+     */
+    void clear() {
+        root.children = null;
+        root.persons = null;
+    }
+
+    /**
+     * Returns the persons filed under exactly {@code word}.
+     */
+    Set<Person> get(String word) {
+        Node node = find(word);
+        return node == null || node.persons == null
+                ? Collections.emptySet()
+                : Collections.unmodifiableSet(node.persons);
+    }
+
+    /**
+     * Adds the persons filed under any word starting with {@code prefix} to {@code matches}.
+     */
+    void collectWithPrefix(String prefix, Set<Person> matches) {
+        Node node = find(prefix);
+        if (node == null) {
+            return;
+        }
+        Deque<Node> pending = new ArrayDeque<>();
+        pending.push(node);
+        while (!pending.isEmpty()) {
+            Node current = pending.pop();
+            if (current.persons != null) {
+                matches.addAll(current.persons);
+            }
+            if (current.children != null) {
+                current.children.values().forEach(pending::push);
+            }
+        }
+    }
+
+    /**
+     * Passes every word that has a person filed under it to {@code consumer}.
+     */
+    void forEachWord(Consumer<String> consumer) {
+        Deque<Node> pending = new ArrayDeque<>();
+        Deque<String> words = new ArrayDeque<>();
+        pending.push(root);
+        words.push("");
+        while (!pending.isEmpty()) {
+            Node node = pending.pop();
+            String word = words.pop();
+            if (node.persons != null) {
+                consumer.accept(word);
+            }
+            if (node.children != null) {
+                node.children.forEach((character, child) -> {
+                    pending.push(child);
+                    words.push(word + character);
+                });
+            }
+        }
+    }
+
+    /**
+     * Returns a new set that compares persons by reference.
+     */
+    static Set<Person> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    private Node find(String word) {
+        Node node = root;
+        for (int i = 0; i < word.length() && node != null; i++) {
+            node = node.getChild(word.charAt(i));
+        }
+        return node;
+    }
+
+    /**
+     * A trie node. {@code persons} holds the persons filed under the word that ends at this node.
+     * Either collection is null rather than empty.
+     */
+    private static class Node {
+        private Map<Character, Node> children;
+        private Set<Person> persons;
+
+        Node getChild(char character) {
+            return children == null ? null : children.get(character);
+        }
+
+        Node getOrAddChild(char character) {
+            if (children == null) {
+                children = new HashMap<>(2);
+            }
+            return children.computeIfAbsent(character, unused -> new Node());
+        }
+
+        void removeChild(char character) {
+            children.remove(character);
+            if (children.isEmpty()) {
+                children = null;
+            }
+        }
+
+        boolean isEmpty() {
+            return children == null && persons == null;
+        }
+    }
+}
@@ -3,13 +3,25 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ModifiableObservableListBase;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.tag.Tag;
 
 /**
  * A list of persons that enforces uniqueness between its elements and does not allow nulls.
@@ -18,22 +30,58 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Since identity is determined by {@code Name}, a name-keyed index is kept in sync with the backing list so that
+ * identity checks do not need to scan the list. Only the identity checks are O(1): replacing or removing a person
+ * still searches the backing list for its position, as a removal shifts every later position anyway.
+ *
+ * An inverted {@code Tag} index is maintained alongside it so that tag-based lookups cost in proportion to the number
+ * of matching persons, and a {@link PersonFieldIndex} answers filters over low-cardinality fields with bitmaps.
+ * {@link PersonStatistics} are maintained the same way. All indexes are updated before the
+ * backing list changes, so listeners of the list always observe up-to-date indexes.
+ *
+ * Once {@link #sortByName()} has been called, the list stays ordered by name: added and edited persons are placed
+ * at their sorted position until the contents are replaced through {@code setPersons(List)}.
+ *
+ * Mutations made between {@link #beginBatch()} and {@link #commitBatch()} are staged and applied to the backing list
+ * as a single change, or discarded by {@link #rollbackBatch()}.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
-    private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    /** Orders persons alphabetically by name, ignoring case. */
+    public static final Comparator<Person> NAME_ORDER =
+            Comparator.comparing(person -> person.getName().fullName, String.CASE_INSENSITIVE_ORDER);
+
+    /**
+     * Orders persons by payment date, with persons without one first. Names are unique within the list, so they
+     * break ties.
+     */
+    public static final Comparator<Person> DUE_DATE_ORDER =
+            Comparator.<Person>comparingLong(person -> person.getPaymentInfo().getPaymentEpochDay())
+                    .thenComparing(person -> person.getName().fullName);
+
+    private final PersonObservableList internalList = new PersonObservableList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private Map<Name, Person> personsByName = new HashMap<>();
+    private Map<Tag, Set<Person>> personsByTag = new HashMap<>();
+    private final PersonNameIndex nameIndex = new PersonNameIndex();
+    private final PersonTextIndex textIndex = new PersonTextIndex();
+    private final PersonDueDateIndex dueDateIndex = new PersonDueDateIndex();
+    private final PersonFieldIndex fieldIndex = new PersonFieldIndex();
+    private final PersonStatistics statistics = new PersonStatistics();
+    private boolean isSortedByName = false;
+    private StagedChanges batch;
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return personsByName.containsKey(toCheck.getName());
     }
 
     /**
@@ -45,7 +93,15 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
-        internalList.add(toAdd);
+        personsByName.put(toAdd.getName(), toAdd);
+        indexPerson(toAdd);
+        if (batch != null) {
+            batch.add(toAdd);
+        } else if (isSortedByName) {
+            internalList.add(sortedInsertionIndex(toAdd), toAdd);
+        } else {
+            internalList.add(toAdd);
+        }
     }
 
     /**
@@ -56,16 +112,27 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
-            throw new PersonNotFoundException();
-        }
+        Person existing = getExisting(target);
 
         if (!target.isSamePerson(editedPerson) && contains(editedPerson)) {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
+        personsByName.remove(target.getName());
+        personsByName.put(editedPerson.getName(), editedPerson);
+        unindexPerson(existing);
+        indexPerson(editedPerson);
+        if (batch != null) {
+            batch.replace(existing, editedPerson);
+            return;
+        }
+
+        int index = internalList.indexOf(existing);
+        if (isSortedByName && !isInSortedPosition(index, editedPerson)) {
+            internalList.move(index, sortedInsertionIndex(editedPerson, index), editedPerson);
+        } else {
+            internalList.set(index, editedPerson);
+        }
     }
 
     /**
@@ -74,29 +141,193 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
-            throw new PersonNotFoundException();
+        Person existing = getExisting(toRemove);
+        personsByName.remove(toRemove.getName());
+        unindexPerson(existing);
+        if (batch != null) {
+            batch.remove(existing);
+        } else {
+            internalList.remove(existing);
         }
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        requireNoBatch();
+        personsByName = new HashMap<>(replacement.personsByName);
+        personsByTag = new HashMap<>();
+        replacement.personsByTag.forEach((tag, persons) -> personsByTag.put(tag, new LinkedHashSet<>(persons)));
+        nameIndex.reset(replacement.internalList);
+        textIndex.reset(replacement.internalList);
+        dueDateIndex.reset(replacement.internalList);
+        fieldIndex.reset(replacement.internalList);
+        statistics.copyFrom(replacement.statistics);
+        isSortedByName = replacement.isSortedByName;
+        internalList.setAll(replacement.internalList);
+    }
+
+    /**
+     * Replaces the contents of this list with those of {@code replacement}, taking over its indexes instead of
+     * rebuilding them, so that a list built elsewhere is installed at the cost of copying its elements.
+     * {@code replacement} must not be used afterwards.
+     */
+    public void takeOver(UniquePersonList replacement) {
+        requireNonNull(replacement);
+        requireNoBatch();
+        replacement.requireNoBatch();
+        personsByName = replacement.personsByName;
+        personsByTag = replacement.personsByTag;
+        nameIndex.takeOver(replacement.nameIndex);
+        textIndex.takeOver(replacement.textIndex);
+        dueDateIndex.takeOver(replacement.dueDateIndex);
+        fieldIndex.takeOver(replacement.fieldIndex);
+        statistics.copyFrom(replacement.statistics);
+        isSortedByName = replacement.isSortedByName;
         internalList.setAll(replacement.internalList);
     }
 
     /**
      * Replaces the contents of this list with {@code persons}.
      * {@code persons} must not contain duplicate persons.
+     * Uniqueness is validated in a single pass and the backing list is filled with a single change.
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
+        requireNoBatch();
+        reindex(persons);
+        isSortedByName = false;
+        internalList.setAll(persons);
+    }
+
+    /**
+     * Sorts the list by {@link #NAME_ORDER} in place, firing a single permutation change if the order changes.
+     * Persons added or edited afterwards are kept in sorted position.
+     *
+     * @return true if the order of the list changed.
+     */
+    public boolean sortByName() {
+        requireNoBatch();
+        isSortedByName = true;
+        for (int i = 1; i < internalList.size(); i++) {
+            if (NAME_ORDER.compare(internalList.get(i - 1), internalList.get(i)) > 0) {
+                internalList.sort(NAME_ORDER);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Starts staging mutations. Until the batch is committed or rolled back, {@code add}, {@code setPerson} and
+     * {@code remove} update the indexes immediately but leave the backing list untouched.
+     *
+     * @throws IllegalStateException if a batch is already in progress.
+     */
+    public void beginBatch() {
+        if (batch != null) {
+            throw new IllegalStateException("A batch is already in progress");
         }
+        batch = new StagedChanges(internalList);
+    }
 
+    /**
+     * Applies the staged mutations to the backing list as a single change and ends the batch.
+     */
+    public void commitBatch() {
+        requireBatch();
+        List<Person> persons = batch.toList();
+        batch = null;
+        if (isSortedByName) {
+            persons.sort(NAME_ORDER);
+        }
         internalList.setAll(persons);
     }
 
+    /**
+     * Discards the staged mutations and ends the batch, restoring the indexes to match the backing list.
+     */
+    public void rollbackBatch() {
+        requireBatch();
+        batch = null;
+        reindex(internalList);
+    }
+
+    /**
+     * Returns true if the list is being kept in {@link #NAME_ORDER}.
+     */
+    public boolean isSortedByName() {
+        return isSortedByName;
+    }
+
+    /**
+     * Returns the persons that have at least one of the given {@code tags}.
+     * Persons are returned in the order they were tagged, and each person appears at most once.
+     */
+    public Set<Person> getPersonsWithAnyTag(Set<Tag> tags) {
+        requireAllNonNull(tags);
+        Set<Person> matches = new LinkedHashSet<>();
+        for (Tag tag : tags) {
+            matches.addAll(personsByTag.getOrDefault(tag, Collections.emptySet()));
+        }
+        return matches;
+    }
+
+    /**
+     * Returns a predicate that accepts the persons in this list whose name contains any of the {@code keywords}.
+     * The predicate is backed by the name index, so each test costs O(1) and stays correct as the list changes.
+     *
+     * @see NameContainsKeywordsPredicate
+     */
+    public Predicate<Person> getNameMatcher(List<String> keywords) {
+        requireAllNonNull(keywords);
+        return nameIndex.matcher(keywords);
+    }
+
+    /**
+     * Returns a matcher that accepts the persons in this list with a name word close to any of the {@code keywords},
+     * and ranks them by edit distance. The matcher is backed by the name index and stays correct as the list changes.
+     */
+    public FuzzyNameMatcher getFuzzyNameMatcher(List<String> keywords) {
+        requireAllNonNull(keywords);
+        return nameIndex.fuzzyMatcher(keywords);
+    }
+
+    /**
+     * Returns a predicate that accepts the persons in this list whose name, phone, email, address or tags contain
+     * every keyword, ignoring case. Keywords may match anywhere inside a word.
+     * The predicate is backed by the full-text index, so each test costs O(1) and stays correct as the list changes.
+     */
+    public Predicate<Person> getTextMatcher(List<String> keywords) {
+        requireAllNonNull(keywords);
+        return textIndex.matcher(keywords);
+    }
+
+    /**
+     * Returns a predicate that accepts the persons in this list with an unpaid payment due on or before
+     * {@code lastDueEpochDay}.
+     * The predicate is backed by the due-date index, so each test costs O(1) and stays correct as the list changes.
+     */
+    public Predicate<Person> getDueByMatcher(long lastDueEpochDay) {
+        return dueDateIndex.matcher(lastDueEpochDay);
+    }
+
+    /**
+     * Returns a predicate that accepts the persons in this list that match every non-null field given and have every
+     * tag in {@code tags}, if given.
+     * The predicate is backed by the bitmap index, so each test costs O(1) and stays correct as the list changes.
+     */
+    public Predicate<Person> getFieldMatcher(EduLevel eduLevel, CurrentGrade currentGrade,
+            ExpectedGrade expectedGrade, Set<Tag> tags) {
+        return fieldIndex.matcher(eduLevel, currentGrade, expectedGrade, tags);
+    }
+
+    /**
+     * Returns the summary statistics of the persons in this list, which stay up to date as the list changes.
+     */
+    public PersonStatistics getStatistics() {
+        return statistics;
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -134,17 +365,257 @@ public class UniquePersonList implements Iterable<Person> {
         return internalList.toString();
     }
 
+    private void requireBatch() {
+        if (batch == null) {
+            throw new IllegalStateException("No batch is in progress");
+        }
+    }
+
+    private void requireNoBatch() {
+        if (batch != null) {
+            throw new IllegalStateException("Operation is not supported during a batch");
+        }
+    }
+
+    /**
+     * Rebuilds every index from {@code persons}.
+     *
+     * @throws DuplicatePersonException if {@code persons} contains duplicate persons, in which case no index changes.
+     */
+    private void reindex(List<Person> persons) {
+        Map<Name, Person> replacementIndex = indexByName(persons);
+
+        Map<Tag, Set<Person>> replacementTagIndex = new HashMap<>();
+        persons.forEach(person -> indexTags(replacementTagIndex, person));
+
+        personsByName = replacementIndex;
+        personsByTag = replacementTagIndex;
+        nameIndex.reset(persons);
+        textIndex.reset(persons);
+        dueDateIndex.reset(persons);
+        fieldIndex.reset(persons);
+        statistics.reset(persons);
+    }
+
+    /**
+     * Returns the person in the list that is equal to {@code person}.
+     *
+     * @throws PersonNotFoundException if no such person exists in the list.
+     */
+    private Person getExisting(Person person) {
+        Person existing = personsByName.get(person.getName());
+        if (existing == null || !existing.equals(person)) {
+            throw new PersonNotFoundException();
+        }
+        return existing;
+    }
+
+    /**
+     * Returns the index at which {@code person} should be inserted to keep the list sorted.
+     * Persons that compare equal keep their insertion order.
+     */
+    private int sortedInsertionIndex(Person person) {
+        return sortedInsertionIndex(person, internalList.size());
+    }
+
+    /**
+     * Returns the index at which {@code person} should be inserted to keep the list sorted, once the person at
+     * {@code removedIndex} has been removed. A {@code removedIndex} past the end of the list removes no one.
+     */
+    private int sortedInsertionIndex(Person person, int removedIndex) {
+        int low = 0;
+        int high = removedIndex < internalList.size() ? internalList.size() - 1 : internalList.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            int listIndex = mid < removedIndex ? mid : mid + 1;
+            if (NAME_ORDER.compare(internalList.get(listIndex), person) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns true if {@code person} can replace the person at {@code index} without breaking the sort order.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
+    private boolean isInSortedPosition(int index, Person person) {
+        boolean isAfterPrevious = index == 0 || NAME_ORDER.compare(internalList.get(index - 1), person) <= 0;
+        boolean isBeforeNext = index == internalList.size() - 1
+                || NAME_ORDER.compare(person, internalList.get(index + 1)) <= 0;
+        return isAfterPrevious && isBeforeNext;
+    }
+
+    /**
+     * Adds {@code person} to every secondary index, i.e. all indexes other than {@code personsByName}.
+     */
+    private void indexPerson(Person person) {
+        indexTags(personsByTag, person);
+        nameIndex.add(person);
+        textIndex.add(person);
+        dueDateIndex.add(person);
+        fieldIndex.add(person);
+        statistics.add(person);
+    }
+
+    /**
+     * Removes {@code person} from every secondary index.
+     */
+    private void unindexPerson(Person person) {
+        unindexTags(person);
+        nameIndex.remove(person);
+        textIndex.remove(person);
+        dueDateIndex.remove(person);
+        fieldIndex.remove(person);
+        statistics.remove(person);
+    }
+
+    private static void indexTags(Map<Tag, Set<Person>> tagIndex, Person person) {
+        for (Tag tag : person.getTags()) {
+            tagIndex.computeIfAbsent(tag, unused -> new LinkedHashSet<>()).add(person);
+        }
+    }
+
+    /**
+     * Removes {@code person} from the tag index, dropping tags that no longer have any persons.
+     */
+    private void unindexTags(Person person) {
+        for (Tag tag : person.getTags()) {
+            Set<Person> tagged = personsByTag.get(tag);
+            tagged.remove(person);
+            if (tagged.isEmpty()) {
+                personsByTag.remove(tag);
+            }
+        }
+    }
+
+    /**
+     * Returns a name-keyed index of {@code persons}.
+     *
+     * @throws DuplicatePersonException if {@code persons} contains persons with the same identity.
+     */
+    private static Map<Name, Person> indexByName(List<Person> persons) {
+        Map<Name, Person> index = new HashMap<>();
+        for (Person person : persons) {
+            if (index.put(person.getName(), person) != null) {
+                throw new DuplicatePersonException();
+            }
+        }
+        return index;
+    }
+
+    /**
+     * The backing list of persons, which can also move a person and sort itself as a single change, so that
+     * listeners never see an edited person missing from the list, nor a sort as a series of replacements.
+     */
+    private static class PersonObservableList extends ModifiableObservableListBase<Person> {
+        private final List<Person> persons = new ArrayList<>();
+
+        @Override
+        public Person get(int index) {
+            return persons.get(index);
+        }
+
+        @Override
+        public int size() {
+            return persons.size();
+        }
+
+        @Override
+        protected void doAdd(int index, Person person) {
+            persons.add(index, person);
+        }
+
+        @Override
+        protected Person doSet(int index, Person person) {
+            return persons.set(index, person);
+        }
+
+        @Override
+        protected Person doRemove(int index) {
+            return persons.remove(index);
+        }
+
+        /**
+         * Removes the person at {@code from} and inserts {@code person} at {@code to}, an index in the list without
+         * the removed person, as a single change.
+         */
+        void move(int from, int to, Person person) {
+            beginChange();
+            try {
+                remove(from);
+                add(to, person);
+            } finally {
+                endChange();
+            }
+        }
+
+        /**
+         * Sorts the list stably by {@code comparator}, firing a single permutation change.
+         */
+        @Override
+        public void sort(Comparator<? super Person> comparator) {
+            Integer[] oldIndexes = new Integer[persons.size()];
+            for (int i = 0; i < oldIndexes.length; i++) {
+                oldIndexes[i] = i;
+            }
+            Arrays.sort(oldIndexes, (first, second) -> comparator.compare(persons.get(first), persons.get(second)));
+
+            List<Person> sorted = new ArrayList<>(persons.size());
+            int[] permutation = new int[persons.size()];
+            for (int newIndex = 0; newIndex < oldIndexes.length; newIndex++) {
+                sorted.add(persons.get(oldIndexes[newIndex]));
+                permutation[oldIndexes[newIndex]] = newIndex;
+            }
+            persons.clear();
+            persons.addAll(sorted);
+
+            beginChange();
+            nextPermutation(0, permutation.length, permutation);
+            endChange();
+        }
+    }
+
+    /**
+     * Mutations staged during a batch.
+     * Every person keeps the position it had when it was staged, so edits and removals are recorded by position
+     * instead of searching the list, and the final list is assembled in a single pass.
+     */
+    private static class StagedChanges {
+        private final List<Person> staged;
+        private final Map<Person, Integer> positions = new IdentityHashMap<>();
+
+        StagedChanges(List<Person> persons) {
+            staged = new ArrayList<>(persons);
+            for (int i = 0; i < staged.size(); i++) {
+                positions.put(staged.get(i), i);
+            }
+        }
+
+        void add(Person person) {
+            positions.put(person, staged.size());
+            staged.add(person);
+        }
+
+        void replace(Person existing, Person edited) {
+            int position = positions.remove(existing);
+            staged.set(position, edited);
+            positions.put(edited, position);
+        }
+
+        void remove(Person existing) {
+            staged.set(positions.remove(existing), null);
+        }
+
+        List<Person> toList() {
+            List<Person> persons = new ArrayList<>(positions.size());
+            for (Person person : staged) {
+                if (person != null) {
+                    persons.add(person);
                 }
             }
+            return persons;
         }
-        return true;
     }
 }
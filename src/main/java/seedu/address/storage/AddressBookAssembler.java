@@ -0,0 +1,152 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.payment.LedgerEntry;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+
+/**
+ * Assembles an {@code AddressBook} from persons and payment ledger entries handed over one at a time, as they are
+ * converted from storage. Identities are checked as persons are added, so errors are reported in file order, and the
+ * address book is filled through its bulk-load path once everything has been read.
+ */
+class AddressBookAssembler {
+
+    /** Lists shorter than this are converted on the calling thread, as splitting them costs more than it saves. */
+    static final int PARALLEL_CONVERSION_THRESHOLD = 256;
+
+    private final List<Person> persons = new ArrayList<>();
+    private final Set<Name> names = new HashSet<>();
+
+    /** Null until the stored ledger is started, so that files saved before the ledger existed can be told apart. */
+    private List<LedgerEntry> ledgerEntries;
+
+    /**
+     * Adds {@code person} after the persons added so far.
+     *
+     * @throws IllegalValueException if a person with the same identity has already been added.
+     */
+    void addPerson(Person person) throws IllegalValueException {
+        if (!names.add(person.getName())) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+        }
+        persons.add(person);
+    }
+
+    /**
+     * Converts {@code records} to persons with {@code converter} and adds them after the persons added so far, in
+     * order. Long lists are converted on all cores through the common fork-join pool, and the identities are then
+     * checked in order, so the error reported is always the one for the first record that is invalid or a duplicate,
+     * exactly as if the records were converted and added one at a time.
+     *
+     * @throws IllegalValueException if a record is invalid or a person with the same identity has already been added.
+     */
+    <T> void addPersons(List<T> records, PersonConverter<T> converter) throws IllegalValueException {
+        Conversion[] conversions = new Conversion[records.size()];
+        IntStream indexes = IntStream.range(0, records.size());
+        if (records.size() >= PARALLEL_CONVERSION_THRESHOLD) {
+            indexes = indexes.parallel();
+        }
+        indexes.forEach(i -> conversions[i] = Conversion.of(records.get(i), converter));
+
+        for (Conversion conversion : conversions) {
+            addPerson(conversion.get());
+        }
+    }
+
+    /**
+     * Marks that the stored address book has a payment ledger, even if it turns out to be empty.
+     */
+    void startLedger() {
+        if (ledgerEntries == null) {
+            ledgerEntries = new ArrayList<>();
+        }
+    }
+
+    /**
+     * Adds {@code entry} after the ledger entries added so far.
+     */
+    void addLedgerEntry(LedgerEntry entry) {
+        startLedger();
+        ledgerEntries.add(entry);
+    }
+
+    /**
+     * Returns the persons added so far, in order.
+     */
+    List<Person> getPersons() {
+        return Collections.unmodifiableList(persons);
+    }
+
+    /**
+     * Returns the ledger entries added so far, in order, or an empty list if no ledger was stored.
+     */
+    List<LedgerEntry> getLedgerEntries() {
+        return ledgerEntries == null ? List.of() : Collections.unmodifiableList(ledgerEntries);
+    }
+
+    /**
+     * Returns the address book holding everything added so far. If no ledger was stored, the current payments of
+     * the persons are recorded as its opening entries.
+     */
+    AddressBook build() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        if (ledgerEntries == null) {
+            addressBook.recordOpeningBalances();
+        } else {
+            addressBook.setLedgerEntries(ledgerEntries);
+        }
+        return addressBook;
+    }
+
+    /**
+     * Converts a stored record to a {@code Person}.
+     */
+    @FunctionalInterface
+    interface PersonConverter<T> {
+        Person convert(T record) throws IllegalValueException;
+    }
+
+    /**
+     * The outcome of converting one record: the person, or the exception the conversion threw.
+     */
+    private static class Conversion {
+        private final Person person;
+        private final Exception exception;
+
+        private Conversion(Person person, Exception exception) {
+            this.person = person;
+            this.exception = exception;
+        }
+
+        static <T> Conversion of(T record, PersonConverter<T> converter) {
+            try {
+                return new Conversion(converter.convert(record), null);
+            } catch (IllegalValueException | RuntimeException e) {
+                return new Conversion(null, e);
+            }
+        }
+
+        /**
+         * Returns the person, or rethrows the exception the conversion threw.
+         */
+        Person get() throws IllegalValueException {
+            if (exception instanceof IllegalValueException) {
+                throw (IllegalValueException) exception;
+            }
+            if (exception instanceof RuntimeException) {
+                throw (RuntimeException) exception;
+            }
+            return person;
+        }
+    }
+}
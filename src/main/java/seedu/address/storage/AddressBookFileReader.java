@@ -0,0 +1,50 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+
+/**
+ * Reads an address book file in any of the formats the app saves in, telling them apart by how the file starts,
+ * so that switching between formats converts the existing data the next time it is saved.
+ */
+class AddressBookFileReader {
+
+    /**
+     * Reads the address book stored at {@code filePath}, which must exist.
+     *
+     * @throws IOException if the file could not be read or is not in any known format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static AddressBook read(Path filePath) throws IOException, IllegalValueException {
+        AddressBookAssembler assembler = new AddressBookAssembler();
+        readInto(filePath, assembler);
+        return assembler.build();
+    }
+
+    /**
+     * Reads the persons and ledger entries stored at {@code filePath}, which must exist, into {@code assembler},
+     * without building an address book from them.
+     *
+     * @throws IOException if the file could not be read or is not in any known format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static void readInto(Path filePath, AddressBookAssembler assembler) throws IOException, IllegalValueException {
+        if (BinaryAddressBookReader.isBinaryFile(filePath)) {
+            BinaryAddressBookReader.readInto(filePath, assembler);
+        } else if (MappedAddressBookFile.isMappedFile(filePath)) {
+            MappedAddressBookFile mappedFile = MappedAddressBookFile.open(filePath, false);
+            try {
+                mappedFile.readInto(assembler);
+            } finally {
+                mappedFile.close();
+            }
+        } else if (ShardedAddressBookReader.isManifest(filePath)) {
+            ShardedAddressBookReader.readInto(filePath, ShardedAddressBookReader.readManifest(filePath), assembler);
+        } else {
+            JsonAddressBookReader.readInto(filePath, assembler);
+        }
+    }
+}
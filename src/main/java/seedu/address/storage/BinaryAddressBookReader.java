@@ -0,0 +1,244 @@
+package seedu.address.storage;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.HashSet;
+import java.util.Set;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.payment.LedgerEntry;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.CurrentGrade;
+import seedu.address.model.person.CurrentYear;
+import seedu.address.model.person.EduLevel;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.ExpectedGrade;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.PaymentInfo;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Reads an address book saved in the binary format written by {@link BinaryAddressBookWriter}.
+ * Each record is read in full before it is converted, so records written by a later version of the format with
+ * extra fields at the end can still be read.
+ */
+class BinaryAddressBookReader {
+
+    /** The first four bytes of every binary address book file, "TSAB". */
+    static final int MAGIC = 0x54534142;
+    static final int VERSION = 1;
+
+    static final String MESSAGE_NOT_BINARY = "Address book data is not in the binary format";
+    static final String MESSAGE_UNSUPPORTED_VERSION = "Address book data is in an unsupported binary format version %d";
+    static final String MESSAGE_INVALID_DICTIONARY_INDEX = "Address book data refers to a missing shared string";
+    static final String MESSAGE_INVALID_LENGTH = "Address book data has a count or length of %d that does not fit in "
+            + "the %d bytes left";
+
+    /** The fewest bytes a string takes in the file, which is the length before it. */
+    private static final int MIN_STRING_SIZE = Short.BYTES;
+    /** The fewest bytes a record takes in the file, which is the length before it. */
+    private static final int MIN_RECORD_SIZE = Integer.BYTES;
+
+    /**
+     * Returns true if the file at {@code filePath} starts like a binary address book file.
+     *
+     * @throws IOException if the file could not be read.
+     */
+    static boolean isBinaryFile(Path filePath) throws IOException {
+        try (InputStream in = Files.newInputStream(filePath)) {
+            byte[] start = in.readNBytes(Integer.BYTES);
+            return start.length == Integer.BYTES && ByteBuffer.wrap(start).getInt() == MAGIC;
+        }
+    }
+
+    /**
+     * Reads the address book stored at {@code filePath}, which must exist.
+     *
+     * @throws IOException if the file could not be read or is not in the binary format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static AddressBook read(Path filePath) throws IOException, IllegalValueException {
+        AddressBookAssembler assembler = new AddressBookAssembler();
+        readInto(filePath, assembler);
+        return assembler.build();
+    }
+
+    /**
+     * Reads the persons and ledger entries stored at {@code filePath}, which must exist, into {@code assembler}.
+     *
+     * @throws IOException if the file could not be read or is not in the binary format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static void readInto(Path filePath, AddressBookAssembler assembler) throws IOException, IllegalValueException {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath))) {
+            readInto(in, Files.size(filePath), assembler);
+        }
+    }
+
+    /**
+     * Reads the persons and ledger entries of an address book in the binary format from {@code in}, which holds
+     * {@code size} bytes, into {@code assembler}.
+     * Every count and length read is checked against the bytes left before anything is allocated for it, so that a
+     * corrupt file is reported as such rather than exhausting memory.
+     *
+     * @throws IOException if {@code in} could not be read or is not in the binary format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    private static void readInto(InputStream in, long size, AddressBookAssembler assembler)
+            throws IOException, IllegalValueException {
+        CountingInputStream counted = new CountingInputStream(in, size);
+        DataInputStream data = new DataInputStream(counted);
+        if (data.readInt() != MAGIC) {
+            throw new IOException(MESSAGE_NOT_BINARY);
+        }
+        int version = data.readInt();
+        if (version < 1 || version > VERSION) {
+            throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        String[] dictionary = new String[readCount(data, counted, MIN_STRING_SIZE)];
+        for (int i = 0; i < dictionary.length; i++) {
+            dictionary[i] = data.readUTF();
+        }
+
+        int personCount = readCount(data, counted, MIN_RECORD_SIZE);
+        for (int i = 0; i < personCount; i++) {
+            assembler.addPerson(readPerson(readRecord(data, counted), dictionary));
+        }
+        assembler.startLedger();
+        int entryCount = readCount(data, counted, MIN_RECORD_SIZE);
+        for (int i = 0; i < entryCount; i++) {
+            assembler.addLedgerEntry(readLedgerEntry(readRecord(data, counted), dictionary));
+        }
+    }
+
+    /**
+     * Reads the next length-prefixed record from {@code data}.
+     */
+    private static DataInputStream readRecord(DataInputStream data, CountingInputStream counted) throws IOException {
+        byte[] record = new byte[readCount(data, counted, 1)];
+        data.readFully(record);
+        return new DataInputStream(new ByteArrayInputStream(record));
+    }
+
+    /**
+     * Reads the number of items that follow in {@code data}, each of which takes at least {@code minItemSize} bytes.
+     *
+     * @throws IOException if the count is negative or that many items cannot fit in the bytes left.
+     */
+    private static int readCount(DataInputStream data, CountingInputStream counted, int minItemSize)
+            throws IOException {
+        int count = data.readInt();
+        long remaining = counted.getRemaining();
+        if (count < 0 || count > remaining / minItemSize) {
+            throw new IOException(String.format(MESSAGE_INVALID_LENGTH, count, remaining));
+        }
+        return count;
+    }
+
+    private static Person readPerson(DataInputStream in, String[] dictionary)
+            throws IOException, IllegalValueException {
+        try {
+            Name name = new Name(in.readUTF());
+            Phone phone = new Phone(in.readUTF());
+            Email email = new Email(in.readUTF());
+            Address address = new Address(in.readUTF());
+            EduLevel eduLevel = new EduLevel(lookUp(dictionary, in.readInt()));
+            CurrentYear currentYear = new CurrentYear(lookUp(dictionary, in.readInt()));
+            CurrentGrade currentGrade = new CurrentGrade(lookUp(dictionary, in.readInt()));
+            ExpectedGrade expectedGrade = new ExpectedGrade(lookUp(dictionary, in.readInt()));
+            Set<Tag> tags = new HashSet<>();
+            int tagCount = in.readInt();
+            for (int i = 0; i < tagCount; i++) {
+                tags.add(new Tag(lookUp(dictionary, in.readInt())));
+            }
+            int paymentFee = in.readInt();
+            long paymentEpochDay = in.readLong();
+            String paymentDate = paymentEpochDay == PaymentInfo.NO_DATE
+                    ? ""
+                    : LocalDate.ofEpochDay(paymentEpochDay).format(StringUtil.DATE_FORMATTER);
+            PaymentInfo paymentInfo = new PaymentInfo.Builder().setPaymentFee(paymentFee)
+                    .setPaymentDate(paymentDate).setPaymentStatus(lookUp(dictionary, in.readInt())).build();
+            return new Person(name, phone, email, address, eduLevel, currentYear, currentGrade, expectedGrade, tags,
+                    paymentInfo);
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new IllegalValueException(e.getMessage());
+        }
+    }
+
+    private static LedgerEntry readLedgerEntry(DataInputStream in, String[] dictionary)
+            throws IOException, IllegalValueException {
+        String studentName = lookUp(dictionary, in.readInt());
+        long recordedEpochDay = in.readLong();
+        int year = in.readInt();
+        int month = in.readByte();
+        try {
+            return new LedgerEntry(studentName, recordedEpochDay, YearMonth.of(year, month), in.readLong(),
+                    in.readLong());
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new IllegalValueException(e.getMessage());
+        }
+    }
+
+    private static String lookUp(String[] dictionary, int index) throws IllegalValueException {
+        if (index < 0 || index >= dictionary.length) {
+            throw new IllegalValueException(MESSAGE_INVALID_DICTIONARY_INDEX);
+        }
+        return dictionary[index];
+    }
+
+    /**
+     * A stream that keeps count of how many of the bytes of the stream it wraps are left to read.
+     */
+    private static class CountingInputStream extends FilterInputStream {
+        private long remaining;
+
+        CountingInputStream(InputStream in, long size) {
+            super(in);
+            remaining = size;
+        }
+
+        long getRemaining() {
+            return Math.max(remaining, 0);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int value = super.read();
+            if (value >= 0) {
+                remaining--;
+            }
+            return value;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) throws IOException {
+            int count = super.read(bytes, offset, length);
+            if (count > 0) {
+                remaining -= count;
+            }
+            return count;
+        }
+
+        @Override
+        public long skip(long count) throws IOException {
+            long skipped = super.skip(count);
+            remaining -= skipped;
+            return skipped;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package seedu.address.storage;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.payment.LedgerEntry;
+import seedu.address.model.person.PaymentInfo;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Writes an address book in the binary format read by {@link BinaryAddressBookReader}.
+ *
+ * The file starts with {@link BinaryAddressBookReader#MAGIC} and the format version, followed by a dictionary of the
+ * strings that many persons share (tags, education levels, years, grades, payment statuses and the student names of
+ * ledger entries), the persons and the ledger entries. Each person and ledger entry is a record prefixed with its
+ * length in bytes, and refers to shared strings by their index in the dictionary.
+ */
+class BinaryAddressBookWriter {
+
+    private final Map<String, Integer> dictionary = new LinkedHashMap<>();
+    private final EncodedPersonCache<byte[]> personCache = new EncodedPersonCache<>();
+
+    /**
+     * Writes {@code addressBook} to {@code filePath}, replacing its contents.
+     * The file is written beside {@code filePath} and then moved over it, so a save that fails part-way leaves the
+     * previous file in place. Missing parent directories are created.
+     * The record of each person is kept until the next save, so only the persons added or edited since the previous
+     * save are encoded again. The dictionary is kept too, so that kept records stay valid, and is only rebuilt once
+     * most of its strings are no longer used.
+     *
+     * @throws IOException if there was an error during writing to the file.
+     */
+    void write(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        updateDictionary(addressBook);
+        personCache.startSave();
+        FileUtil.writeAtomically(filePath, temporaryFilePath -> writeBinary(addressBook, temporaryFilePath));
+        personCache.finishSave();
+    }
+
+    private void writeBinary(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(filePath)))) {
+            out.writeInt(BinaryAddressBookReader.MAGIC);
+            out.writeInt(BinaryAddressBookReader.VERSION);
+
+            out.writeInt(dictionary.size());
+            for (String value : dictionary.keySet()) {
+                out.writeUTF(value);
+            }
+
+            ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+            DataOutputStream record = new DataOutputStream(recordBytes);
+
+            out.writeInt(addressBook.getPersonList().size());
+            for (Person person : addressBook.getPersonList()) {
+                byte[] encoded = personCache.getEncoded(person, unused -> {
+                    writePerson(person, record);
+                    return takeRecord(recordBytes);
+                });
+                out.writeInt(encoded.length);
+                out.write(encoded);
+            }
+
+            out.writeInt(addressBook.getLedgerEntries().size());
+            for (LedgerEntry entry : addressBook.getLedgerEntries()) {
+                writeLedgerEntry(entry, record);
+                byte[] encoded = takeRecord(recordBytes);
+                out.writeInt(encoded.length);
+                out.write(encoded);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of persons encoded by this writer so far, rather than copied from a previous save.
+     */
+    long getEncodedPersonCount() {
+        return personCache.getEncodedCount();
+    }
+
+    /**
+     * Adds the shared strings of {@code addressBook} that are not in the dictionary yet. If most of the dictionary
+     * would be unused, it is rebuilt from the strings in use instead, and every person is encoded again.
+     */
+    private void updateDictionary(ReadOnlyAddressBook addressBook) {
+        Set<String> sharedStrings = new LinkedHashSet<>();
+        for (Person person : addressBook.getPersonList()) {
+            addSharedStrings(person, sharedStrings);
+        }
+        for (LedgerEntry entry : addressBook.getLedgerEntries()) {
+            sharedStrings.add(entry.getStudentName());
+        }
+
+        if (dictionary.size() > 2 * sharedStrings.size()) {
+            dictionary.clear();
+            personCache.clear();
+        }
+        for (String value : sharedStrings) {
+            dictionary.putIfAbsent(value, dictionary.size());
+        }
+    }
+
+    private static void addSharedStrings(Person person, Set<String> sharedStrings) {
+        sharedStrings.add(person.getEduLevel().value);
+        sharedStrings.add(person.getCurrentYear().value);
+        sharedStrings.add(person.getCurrentGrade().value);
+        sharedStrings.add(person.getExpectedGrade().value);
+        sharedStrings.add(person.getPaymentInfo().getPaymentStatus());
+        for (Tag tag : person.getTags()) {
+            sharedStrings.add(tag.fullTag);
+        }
+    }
+
+    private void writePerson(Person person, DataOutputStream out) throws IOException {
+        out.writeUTF(person.getName().fullName);
+        out.writeUTF(person.getPhone().value);
+        out.writeUTF(person.getEmail().value);
+        out.writeUTF(person.getAddress().value);
+        out.writeInt(dictionary.get(person.getEduLevel().value));
+        out.writeInt(dictionary.get(person.getCurrentYear().value));
+        out.writeInt(dictionary.get(person.getCurrentGrade().value));
+        out.writeInt(dictionary.get(person.getExpectedGrade().value));
+        out.writeInt(person.getTags().size());
+        for (Tag tag : person.getTags()) {
+            out.writeInt(dictionary.get(tag.fullTag));
+        }
+        PaymentInfo paymentInfo = person.getPaymentInfo();
+        out.writeInt(paymentInfo.getPaymentFee());
+        out.writeLong(paymentInfo.getPaymentEpochDay());
+        out.writeInt(dictionary.get(paymentInfo.getPaymentStatus()));
+    }
+
+    private void writeLedgerEntry(LedgerEntry entry, DataOutputStream out) throws IOException {
+        out.writeInt(dictionary.get(entry.getStudentName()));
+        out.writeLong(entry.getRecordedEpochDay());
+        out.writeInt(entry.getMonth().getYear());
+        out.writeByte(entry.getMonth().getMonthValue());
+        out.writeLong(entry.getOutstandingChange());
+        out.writeLong(entry.getReceivedChange());
+    }
+
+    /**
+     * Returns the record held by {@code recordBytes}, and clears it.
+     */
+    private static byte[] takeRecord(ByteArrayOutputStream recordBytes) {
+        byte[] record = recordBytes.toByteArray();
+        recordBytes.reset();
+        return record;
+    }
+}
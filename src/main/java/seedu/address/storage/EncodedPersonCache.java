@@ -0,0 +1,76 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Remembers how each person was encoded by the previous save, so that a save only encodes the persons that were
+ * added or edited since and copies the rest.
+ * Persons are immutable, so an encoding never goes stale. Persons are looked up by identity, and only the persons of
+ * the latest finished save are kept, so the encodings of edited and removed persons are dropped with them.
+ *
+ * @param <E> the type of an encoded person.
+ */
+class EncodedPersonCache<E> {
+
+    private Map<Person, E> previousSave = new IdentityHashMap<>();
+    private Map<Person, E> currentSave = new IdentityHashMap<>();
+    private long encodedCount;
+
+    /**
+     * Encodes a person for a save.
+     */
+    @FunctionalInterface
+    interface PersonEncoder<E> {
+        E encode(Person person) throws IOException;
+    }
+
+    /**
+     * Starts a save, discarding the encodings of any save that did not finish.
+     */
+    void startSave() {
+        currentSave.clear();
+    }
+
+    /**
+     * Returns the encoding of {@code person} from the previous save, or encodes it with {@code encoder} if it was not
+     * in the previous save.
+     */
+    E getEncoded(Person person, PersonEncoder<E> encoder) throws IOException {
+        E encoded = previousSave.get(person);
+        if (encoded == null) {
+            encoded = encoder.encode(person);
+            encodedCount++;
+        }
+        currentSave.put(person, encoded);
+        return encoded;
+    }
+
+    /**
+     * Finishes a save, keeping only the encodings of the persons in it.
+     */
+    void finishSave() {
+        Map<Person, E> finishedSave = currentSave;
+        currentSave = previousSave;
+        currentSave.clear();
+        previousSave = finishedSave;
+    }
+
+    /**
+     * Discards every encoding, so that every person is encoded again.
+     */
+    void clear() {
+        previousSave.clear();
+        currentSave.clear();
+    }
+
+    /**
+     * Returns the number of persons encoded so far, rather than copied from a previous save.
+     */
+    long getEncodedCount() {
+        return encodedCount;
+    }
+}
@@ -0,0 +1,302 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.payment.LedgerEntry;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot file, together with a journal of the changes made
+ * since the snapshot was written.
+ * Each save appends a single {@link JsonAdaptedJournalRecord} line holding only what changed since the previous save,
+ * so the cost of a save grows with the size of the change rather than the size of the address book. The snapshot is
+ * rewritten, and the journal emptied, once the journal holds {@code maxJournalRecords} records, or when a change
+ * cannot be expressed as a record.
+ *
+ * The journal is kept beside the snapshot, with {@value #JOURNAL_FILE_SUFFIX} appended to its name. Its first line
+ * is the checksum of the snapshot it follows, so that a journal left behind by an interrupted compaction, or a
+ * snapshot edited by hand, is never replayed onto the wrong snapshot. An incomplete last record, left by a save that
+ * was interrupted, is ignored.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final int DEFAULT_MAX_JOURNAL_RECORDS = 100;
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private final Path filePath;
+    private final int maxJournalRecords;
+    private final JsonAddressBookWriter snapshotWriter;
+
+    /** Persons in the files at {@code filePath}, or null if unknown, in which case the next save compacts. */
+    private List<Person> savedPersons;
+    private int savedLedgerSize;
+    private LedgerEntry savedLastLedgerEntry;
+    private int journalRecordCount;
+
+    public JournaledAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_MAX_JOURNAL_RECORDS, false);
+    }
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} that keeps its snapshot at {@code filePath} and rewrites it once
+     * the journal holds {@code maxJournalRecords} records. The snapshot is written without indentation and line
+     * breaks if {@code isCompact} is true.
+     */
+    public JournaledAddressBookStorage(Path filePath, int maxJournalRecords, boolean isCompact) {
+        requireNonNull(filePath);
+        if (maxJournalRecords < 0) {
+            throw new IllegalArgumentException("Journal size cannot be negative: " + maxJournalRecords);
+        }
+        this.filePath = filePath;
+        this.maxJournalRecords = maxJournalRecords;
+        snapshotWriter = new JsonAddressBookWriter(isCompact);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the location of the journal that follows the snapshot at {@code snapshotPath}.
+     */
+    public static Path getJournalFilePath(Path snapshotPath) {
+        return Paths.get(snapshotPath + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * The persons and ledger entries of the snapshot are read, and the records of its journal are applied to them in
+     * order, before the address book is built from them.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        AddressBook addressBook;
+        int recordCount;
+        try {
+            AddressBookAssembler snapshot = new AddressBookAssembler();
+            AddressBookFileReader.readInto(filePath, snapshot);
+            List<Person> persons = new ArrayList<>(snapshot.getPersons());
+            List<LedgerEntry> ledgerEntries = new ArrayList<>(snapshot.getLedgerEntries());
+            recordCount = replayJournal(filePath, persons, ledgerEntries);
+
+            // the address book, and so its indexes, is only built once, after the journal is applied
+            AddressBookAssembler assembler = snapshot;
+            if (isChanged(snapshot, persons, ledgerEntries)) {
+                assembler = new AddressBookAssembler();
+                for (Person person : persons) {
+                    assembler.addPerson(person);
+                }
+                assembler.startLedger();
+                ledgerEntries.forEach(assembler::addLedgerEntry);
+            }
+            addressBook = assembler.build();
+        } catch (IOException ioe) {
+            logger.warning("Error reading from address book file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+
+        if (filePath.equals(this.filePath)) {
+            if (recordCount < 0) {
+                savedPersons = null;
+            } else {
+                recordSaved(addressBook);
+                journalRecordCount = recordCount;
+            }
+        }
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Address books saved anywhere other than this storage's file path are always written as a whole.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            writeSnapshot(addressBook, filePath);
+            return;
+        }
+
+        JsonAdaptedJournalRecord record = journalRecordCount < maxJournalRecords ? getChanges(addressBook) : null;
+        // until the files are written, what they hold is unknown
+        savedPersons = null;
+        if (record == null) {
+            writeSnapshot(addressBook, filePath);
+            journalRecordCount = 0;
+        } else if (!record.isEmpty()) {
+            String line = JsonUtil.toJsonString(record, true) + "\n";
+            Files.write(getJournalFilePath(filePath), line.getBytes(StandardCharsets.UTF_8),
+                    StandardOpenOption.APPEND);
+            journalRecordCount++;
+        }
+        recordSaved(addressBook);
+    }
+
+    /**
+     * Returns the record of the changes from what was last saved to {@code addressBook}, or null if what was last
+     * saved is unknown or the changes cannot be recorded.
+     * The changed persons are the ones between the longest unchanged prefix and suffix of the persons list.
+     */
+    private JsonAdaptedJournalRecord getChanges(ReadOnlyAddressBook addressBook) {
+        List<LedgerEntry> ledgerEntries = addressBook.getLedgerEntries();
+        if (savedPersons == null || ledgerEntries.size() < savedLedgerSize
+                || savedLedgerSize > 0 && !ledgerEntries.get(savedLedgerSize - 1).equals(savedLastLedgerEntry)) {
+            return null;
+        }
+
+        List<Person> persons = addressBook.getPersonList();
+        int shorterSize = Math.min(persons.size(), savedPersons.size());
+        int prefix = 0;
+        while (prefix < shorterSize && persons.get(prefix).equals(savedPersons.get(prefix))) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < shorterSize - prefix && persons.get(persons.size() - 1 - suffix)
+                .equals(savedPersons.get(savedPersons.size() - 1 - suffix))) {
+            suffix++;
+        }
+
+        return JsonAdaptedJournalRecord.of(prefix, savedPersons.size() - prefix - suffix,
+                persons.subList(prefix, persons.size() - suffix),
+                ledgerEntries.subList(savedLedgerSize, ledgerEntries.size()));
+    }
+
+    /**
+     * Remembers {@code addressBook} as what the files at this storage's file path hold.
+     */
+    private void recordSaved(ReadOnlyAddressBook addressBook) {
+        List<LedgerEntry> ledgerEntries = addressBook.getLedgerEntries();
+        savedPersons = List.copyOf(addressBook.getPersonList());
+        savedLedgerSize = ledgerEntries.size();
+        savedLastLedgerEntry = ledgerEntries.isEmpty() ? null : ledgerEntries.get(ledgerEntries.size() - 1);
+    }
+
+    /**
+     * Writes {@code addressBook} as the snapshot at {@code snapshotPath}, followed by an empty journal.
+     * Each file is written beside its destination and then moved over it, so an interrupted write leaves either the
+     * old or the new file in place, and a new snapshot with the old journal is recognised by its checksum.
+     */
+    private void writeSnapshot(ReadOnlyAddressBook addressBook, Path snapshotPath) throws IOException {
+        snapshotWriter.write(addressBook, snapshotPath);
+        String journalHeader = getChecksum(snapshotPath) + "\n";
+        FileUtil.writeAtomically(getJournalFilePath(snapshotPath),
+                journalPath -> FileUtil.writeToFile(journalPath, journalHeader));
+    }
+
+    /**
+     * Applies the records of the journal that follows the snapshot at {@code snapshotPath} to {@code persons} and
+     * {@code ledgerEntries}.
+     *
+     * @return the number of records applied, or -1 if the journal is missing, does not follow the snapshot, or ends
+     *     with an incomplete record, in which case it must be rewritten before more records are appended to it.
+     * @throws IOException if the journal could not be read or holds a record that is not valid JSON.
+     * @throws IllegalValueException if a record does not fit the data before it.
+     */
+    private static int replayJournal(Path snapshotPath, List<Person> persons, List<LedgerEntry> ledgerEntries)
+            throws IOException, IllegalValueException {
+        Path journalPath = getJournalFilePath(snapshotPath);
+        if (!Files.exists(journalPath)) {
+            return -1;
+        }
+
+        List<String> lines = Files.readAllLines(journalPath, StandardCharsets.UTF_8);
+        if (lines.isEmpty() || !lines.get(0).equals(Long.toString(getChecksum(snapshotPath)))) {
+            logger.warning("Ignoring journal " + journalPath + " as it does not follow " + snapshotPath);
+            return -1;
+        }
+
+        for (int i = 1; i < lines.size(); i++) {
+            JsonAdaptedJournalRecord record;
+            try {
+                record = JsonUtil.fromJsonString(lines.get(i), JsonAdaptedJournalRecord.class);
+            } catch (JsonProcessingException jpe) {
+                if (i < lines.size() - 1) {
+                    throw jpe;
+                }
+                logger.warning("Ignoring incomplete last record of journal " + journalPath);
+                return -1;
+            }
+            record.applyTo(persons, ledgerEntries);
+        }
+        return lines.size() - 1;
+    }
+
+    /**
+     * Returns true if applying the journal changed {@code persons} or {@code ledgerEntries} from what was read into
+     * {@code snapshot}. Persons are compared by identity, as a record replaces the persons it changes.
+     */
+    private static boolean isChanged(AddressBookAssembler snapshot, List<Person> persons,
+            List<LedgerEntry> ledgerEntries) {
+        List<Person> snapshotPersons = snapshot.getPersons();
+        if (ledgerEntries.size() != snapshot.getLedgerEntries().size() || persons.size() != snapshotPersons.size()) {
+            return true;
+        }
+        for (int i = 0; i < persons.size(); i++) {
+            if (persons.get(i) != snapshotPersons.get(i)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static long getChecksum(Path file) throws IOException {
+        try (CheckedInputStream in = new CheckedInputStream(Files.newInputStream(file), new CRC32())) {
+            in.transferTo(OutputStream.nullOutputStream());
+            return in.getChecksum().getValue();
+        }
+    }
+}
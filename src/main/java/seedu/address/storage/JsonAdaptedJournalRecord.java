@@ -0,0 +1,89 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.payment.LedgerEntry;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly record of one change to an address book, as kept in the journal of a
+ * {@link JournaledAddressBookStorage}.
+ * The persons from index {@code at} onwards, {@code removed} of them, are replaced by {@code persons}, and
+ * {@code ledger} is appended to the payment ledger. Adding, editing and deleting a person are all such replacements.
+ */
+class JsonAdaptedJournalRecord {
+
+    public static final String MESSAGE_OUT_OF_RANGE = "Journal record does not fit the persons before it";
+
+    private final int at;
+    private final int removed;
+    private final List<JsonAdaptedPerson> persons = new ArrayList<>();
+    private final List<JsonAdaptedLedgerEntry> ledger = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given change details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("at") int at, @JsonProperty("removed") int removed,
+            @JsonProperty("persons") List<JsonAdaptedPerson> persons,
+            @JsonProperty("ledger") List<JsonAdaptedLedgerEntry> ledger) {
+        this.at = at;
+        this.removed = removed;
+        if (persons != null) {
+            this.persons.addAll(persons);
+        }
+        if (ledger != null) {
+            this.ledger.addAll(ledger);
+        }
+    }
+
+    /**
+     * Converts a change that replaces {@code removed} persons from index {@code at} with {@code inserted}, and appends
+     * {@code appended} to the payment ledger, into this class for Jackson use.
+     */
+    public static JsonAdaptedJournalRecord of(int at, int removed, List<Person> inserted,
+            List<LedgerEntry> appended) {
+        return new JsonAdaptedJournalRecord(at, removed,
+                inserted.stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()),
+                appended.stream().map(JsonAdaptedLedgerEntry::new).collect(Collectors.toList()));
+    }
+
+    /**
+     * Returns true if applying this record changes nothing.
+     */
+    public boolean isEmpty() {
+        return removed == 0 && persons.isEmpty() && ledger.isEmpty();
+    }
+
+    /**
+     * Applies this change to {@code modelPersons} and {@code ledgerEntries}.
+     * Neither list is changed if this record does not fit them.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the record.
+     */
+    public void applyTo(List<Person> modelPersons, List<LedgerEntry> ledgerEntries) throws IllegalValueException {
+        if (at < 0 || removed < 0 || at + removed > modelPersons.size()) {
+            throw new IllegalValueException(MESSAGE_OUT_OF_RANGE);
+        }
+
+        List<Person> insertedPersons = new ArrayList<>();
+        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
+            insertedPersons.add(jsonAdaptedPerson.toModelType());
+        }
+        List<LedgerEntry> appendedEntries = new ArrayList<>();
+        for (JsonAdaptedLedgerEntry jsonAdaptedLedgerEntry : ledger) {
+            appendedEntries.add(jsonAdaptedLedgerEntry.toModelType());
+        }
+
+        List<Person> replaced = modelPersons.subList(at, at + removed);
+        replaced.clear();
+        replaced.addAll(insertedPersons);
+        ledgerEntries.addAll(appendedEntries);
+    }
+}
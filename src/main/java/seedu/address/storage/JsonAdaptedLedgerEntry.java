@@ -0,0 +1,80 @@
+package seedu.address.storage;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.payment.LedgerEntry;
+
+/**
+ * Jackson-friendly version of {@link LedgerEntry}.
+ */
+class JsonAdaptedLedgerEntry {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Ledger entry's %s field is missing!";
+    public static final String MESSAGE_INVALID_DATE = "Ledger entry's recordedOn field should be a dd-MM-yyyy date";
+    public static final String MESSAGE_INVALID_MONTH = "Ledger entry's month field should be a MM-yyyy month";
+
+    private final String name;
+    private final String recordedOn;
+    private final String month;
+    private final long outstandingChange;
+    private final long receivedChange;
+
+    /**
+     * Constructs a {@code JsonAdaptedLedgerEntry} with the given entry details.
+     */
+    @JsonCreator
+    public JsonAdaptedLedgerEntry(@JsonProperty("name") String name, @JsonProperty("recordedOn") String recordedOn,
+            @JsonProperty("month") String month, @JsonProperty("outstandingChange") long outstandingChange,
+            @JsonProperty("receivedChange") long receivedChange) {
+        this.name = name;
+        this.recordedOn = recordedOn;
+        this.month = month;
+        this.outstandingChange = outstandingChange;
+        this.receivedChange = receivedChange;
+    }
+
+    /**
+     * Converts a given {@code LedgerEntry} into this class for Jackson use.
+     */
+    public JsonAdaptedLedgerEntry(LedgerEntry source) {
+        name = source.getStudentName();
+        recordedOn = LocalDate.ofEpochDay(source.getRecordedEpochDay()).format(StringUtil.DATE_FORMATTER);
+        month = source.getMonth().format(StringUtil.MONTH_FORMATTER);
+        outstandingChange = source.getOutstandingChange();
+        receivedChange = source.getReceivedChange();
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted entry object into the model's {@code LedgerEntry} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted entry.
+     */
+    public LedgerEntry toModelType() throws IllegalValueException {
+        if (name == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "name"));
+        }
+        if (recordedOn == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "recordedOn"));
+        }
+        if (!StringUtil.isValidDate(recordedOn)) {
+            throw new IllegalValueException(MESSAGE_INVALID_DATE);
+        }
+        if (month == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "month"));
+        }
+        if (!StringUtil.isValidMonth(month)) {
+            throw new IllegalValueException(MESSAGE_INVALID_MONTH);
+        }
+
+        long recordedEpochDay = LocalDate.parse(recordedOn, StringUtil.DATE_FORMATTER).toEpochDay();
+        YearMonth modelMonth = YearMonth.parse(month, StringUtil.MONTH_FORMATTER);
+        return new LedgerEntry(name, recordedEpochDay, modelMonth, outstandingChange, receivedChange);
+    }
+
+}
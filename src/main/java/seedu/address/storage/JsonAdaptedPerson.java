@@ -11,6 +11,7 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.CurrentGrade;
 import seedu.address.model.person.CurrentYear;
@@ -178,7 +179,9 @@ class JsonAdaptedPerson {
         if (paymentDate == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "[paymentDate]"));
         }
-        if (!PaymentInfo.isValidDate(paymentDate)) {
+        // dates past the end of the month, which earlier versions saved, are moved to its last day
+        final String modelPaymentDate = StringUtil.normalizeStoredDate(paymentDate);
+        if (!PaymentInfo.isValidDate(modelPaymentDate)) {
             throw new IllegalValueException(PaymentInfo.MESSAGE_CONSTRAINTS_DATE);
         }
         if (paymentStatus == null) {
@@ -188,7 +191,7 @@ class JsonAdaptedPerson {
             throw new IllegalValueException(PaymentInfo.MESSAGE_CONSTRAINTS_STATUS);
         }
         final PaymentInfo paymentInfo = new PaymentInfo.Builder().setPaymentFee(paymentFee)
-                .setPaymentDate(paymentDate).setPaymentStatus(paymentStatus).build();
+                .setPaymentDate(modelPaymentDate).setPaymentStatus(paymentStatus).build();
 
         return new Person(modelName, modelPhone, modelEmail, modelAddress, modelEduLevel, modelCurrentYear,
                 modelCurrentGrade, modelExpectedGrade, modelTags, paymentInfo);
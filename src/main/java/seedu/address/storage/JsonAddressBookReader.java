@@ -0,0 +1,81 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+
+/**
+ * Reads an address book saved as JSON by streaming through its tokens.
+ * Stored persons are bound in chunks of {@value #PERSON_CHUNK_SIZE}, and each chunk is converted to {@code Person}s
+ * on all cores as soon as it is read, so only one chunk of adapted persons is held at a time and conversion starts
+ * before the rest of the file has been read. The result, and the first error reported, are the same as binding the
+ * whole file to a {@link JsonSerializableAddressBook} and converting it.
+ */
+class JsonAddressBookReader {
+
+    static final String PERSONS_FIELD = "persons";
+    static final String PAYMENT_LEDGER_FIELD = "paymentLedger";
+    static final String MESSAGE_NOT_AN_OBJECT = "Address book data should be a JSON object";
+
+    /** Number of stored persons bound before they are converted together. */
+    static final int PERSON_CHUNK_SIZE = 4096;
+
+    /**
+     * Reads the address book stored at {@code filePath}, which must exist.
+     *
+     * @throws IOException if the file could not be read or is not valid JSON.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static AddressBook read(Path filePath) throws IOException, IllegalValueException {
+        AddressBookAssembler assembler = new AddressBookAssembler();
+        readInto(filePath, assembler);
+        return assembler.build();
+    }
+
+    /**
+     * Reads the persons and ledger entries stored at {@code filePath}, which must exist, into {@code assembler}.
+     *
+     * @throws IOException if the file could not be read or is not valid JSON.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static void readInto(Path filePath, AddressBookAssembler assembler) throws IOException, IllegalValueException {
+        try (JsonParser parser = JsonUtil.createJsonParser(filePath)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, MESSAGE_NOT_AN_OBJECT);
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (PERSONS_FIELD.equals(field) && value == JsonToken.START_ARRAY) {
+                    List<JsonAdaptedPerson> chunk = new ArrayList<>();
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        chunk.add(parser.readValueAs(JsonAdaptedPerson.class));
+                        if (chunk.size() == PERSON_CHUNK_SIZE) {
+                            assembler.addPersons(chunk, JsonAdaptedPerson::toModelType);
+                            chunk.clear();
+                        }
+                    }
+                    assembler.addPersons(chunk, JsonAdaptedPerson::toModelType);
+                } else if (PAYMENT_LEDGER_FIELD.equals(field) && value == JsonToken.START_ARRAY) {
+                    assembler.startLedger();
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        assembler.addLedgerEntry(parser.readValueAs(JsonAdaptedLedgerEntry.class).toModelType());
+                    }
+                } else {
+                    // unknown fields are ignored, as when binding the whole file
+                    parser.skipChildren();
+                }
+            }
+        }
+    }
+}
@@ -3,6 +3,7 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -11,7 +12,6 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
-import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
@@ -22,9 +22,28 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private final JsonAddressBookWriter writer;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} that saves to {@code filePath}, without indentation and line breaks
+     * if {@code isCompact} is true.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isCompact) {
+        this(filePath, isCompact, false);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} that saves to {@code filePath}, without indentation and line breaks
+     * if {@code isCompact} is true, and compressed with GZIP as it is written if {@code isCompressed} is true.
+     * Compressed files are recognised by how they start, and are decompressed as they are read.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isCompact, boolean isCompressed) {
         this.filePath = filePath;
+        writer = new JsonAddressBookWriter(isCompact, isCompressed);
     }
 
     public Path getAddressBookFilePath() {
@@ -38,6 +57,8 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #readAddressBook()}.
+     * The file is read as a stream, converting each person as soon as it is read. A file that is not compressed is
+     * read through {@link JournaledAddressBookStorage}, so that changes left in its journal are not lost.
      *
      * @param filePath location of the data. Cannot be null.
      * @throws DataLoadingException if loading the data from storage failed.
@@ -45,14 +66,18 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
 
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            if (!FileUtil.isCompressedFile(filePath)) {
+                return new JournaledAddressBookStorage(filePath).readAddressBook();
+            }
+            return Optional.of(AddressBookFileReader.read(filePath));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from address book file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -66,6 +91,8 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The address book is streamed to the file one person at a time, and only the persons added or edited since
+     * the previous save are serialized again.
      *
      * @param filePath location of the data. Cannot be null.
      */
@@ -73,8 +100,7 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        writer.write(addressBook, filePath);
     }
 
 }
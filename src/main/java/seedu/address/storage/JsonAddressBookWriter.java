@@ -0,0 +1,105 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.payment.LedgerEntry;
+import seedu.address.model.person.Person;
+
+/**
+ * Writes an address book as JSON by streaming it to the file.
+ * Each ledger entry is adapted and written on its own, so no copy of the whole document is built in memory. The
+ * JSON of each person is kept between saves by an {@link EncodedPersonCache}, so only the persons added or edited
+ * since the previous save are adapted and serialized, and the rest are copied. The output has the same layout as a
+ * serialized {@link JsonSerializableAddressBook}, and is read back by {@link JsonAddressBookReader}.
+ */
+class JsonAddressBookWriter {
+
+    /** Indentation of a person's fields inside the persons array, beyond that of a person serialized on its own. */
+    private static final String PERSON_INDENT = "  ";
+
+    private final boolean isCompact;
+    private final boolean isCompressed;
+    private final EncodedPersonCache<String> personCache = new EncodedPersonCache<>();
+
+    /**
+     * Creates a {@code JsonAddressBookWriter} that leaves out the indentation and line breaks that make the file
+     * readable if {@code isCompact} is true.
+     */
+    JsonAddressBookWriter(boolean isCompact) {
+        this(isCompact, false);
+    }
+
+    /**
+     * Similar to {@link #JsonAddressBookWriter(boolean)}, and compresses the file with GZIP as it is written if
+     * {@code isCompressed} is true.
+     */
+    JsonAddressBookWriter(boolean isCompact, boolean isCompressed) {
+        this.isCompact = isCompact;
+        this.isCompressed = isCompressed;
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code filePath}, replacing its contents.
+     * The file is written beside {@code filePath} and then moved over it, so a save that fails part-way leaves the
+     * previous file in place. Missing parent directories are created.
+     *
+     * @throws IOException if there was an error during writing to the file.
+     */
+    void write(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        write(addressBook.getPersonList(), addressBook.getLedgerEntries(), filePath);
+    }
+
+    /**
+     * Writes {@code persons} and {@code ledgerEntries} to {@code filePath} as an address book, replacing its
+     * contents in the same way as {@link #write(ReadOnlyAddressBook, Path)}.
+     *
+     * @throws IOException if there was an error during writing to the file.
+     */
+    void write(List<Person> persons, List<LedgerEntry> ledgerEntries, Path filePath) throws IOException {
+        personCache.startSave();
+        FileUtil.writeAtomically(filePath, temporaryFilePath -> writeJson(persons, ledgerEntries, temporaryFilePath));
+        personCache.finishSave();
+    }
+
+    private void writeJson(List<Person> persons, List<LedgerEntry> ledgerEntries, Path filePath) throws IOException {
+        try (JsonGenerator generator = JsonUtil.createJsonGenerator(filePath, isCompact, isCompressed)) {
+            generator.writeStartObject();
+
+            generator.writeArrayFieldStart(JsonAddressBookReader.PERSONS_FIELD);
+            for (Person person : persons) {
+                generator.writeRawValue(personCache.getEncoded(person, this::toJson));
+            }
+            generator.writeEndArray();
+
+            generator.writeArrayFieldStart(JsonAddressBookReader.PAYMENT_LEDGER_FIELD);
+            for (LedgerEntry entry : ledgerEntries) {
+                generator.writeObject(new JsonAdaptedLedgerEntry(entry));
+            }
+            generator.writeEndArray();
+
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Returns the number of persons serialized by this writer so far, rather than copied from a previous save.
+     */
+    long getSerializedPersonCount() {
+        return personCache.getEncodedCount();
+    }
+
+    /**
+     * Returns the JSON of {@code person}, indented as an element of the persons array.
+     */
+    private String toJson(Person person) throws IOException {
+        String json = JsonUtil.toJsonString(new JsonAdaptedPerson(person), isCompact);
+        return isCompact ? json : json.replace(System.lineSeparator(), System.lineSeparator() + PERSON_INDENT);
+    }
+}
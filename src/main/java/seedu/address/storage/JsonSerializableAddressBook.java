@@ -11,7 +11,6 @@ import com.fasterxml.jackson.annotation.JsonRootName;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
-import seedu.address.model.person.Person;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -23,12 +22,17 @@ class JsonSerializableAddressBook {
 
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
 
+    /** Null for address books saved before the payment ledger existed. */
+    private final List<JsonAdaptedLedgerEntry> paymentLedger;
+
     /**
-     * Constructs a {@code JsonSerializableAddressBook} with the given persons.
+     * Constructs a {@code JsonSerializableAddressBook} with the given persons and payment ledger entries.
      */
     @JsonCreator
-    public JsonSerializableAddressBook(@JsonProperty("persons") List<JsonAdaptedPerson> persons) {
+    public JsonSerializableAddressBook(@JsonProperty("persons") List<JsonAdaptedPerson> persons,
+            @JsonProperty("paymentLedger") List<JsonAdaptedLedgerEntry> paymentLedger) {
         this.persons.addAll(persons);
+        this.paymentLedger = paymentLedger;
     }
 
     /**
@@ -38,6 +42,8 @@ class JsonSerializableAddressBook {
      */
     public JsonSerializableAddressBook(ReadOnlyAddressBook source) {
         persons.addAll(source.getPersonList().stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
+        paymentLedger = source.getLedgerEntries().stream().map(JsonAdaptedLedgerEntry::new)
+                .collect(Collectors.toList());
     }
 
     /**
@@ -46,15 +52,15 @@ class JsonSerializableAddressBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        AddressBookAssembler assembler = new AddressBookAssembler();
+        assembler.addPersons(persons, JsonAdaptedPerson::toModelType);
+        if (paymentLedger != null) {
+            assembler.startLedger();
+            for (JsonAdaptedLedgerEntry jsonAdaptedLedgerEntry : paymentLedger) {
+                assembler.addLedgerEntry(jsonAdaptedLedgerEntry.toModelType());
             }
-            addressBook.addPerson(person);
         }
-        return addressBook;
+        return assembler.build();
     }
 
 }
@@ -0,0 +1,84 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+/**
+ * Jackson-friendly manifest of an address book saved by a {@link ShardedAddressBookStorage}.
+ * It names the shard files, which are found beside the manifest, and records which shard holds each person and each
+ * ledger entry as one digit per person or entry, in order, so that the order of the address book is kept across
+ * shards. {@code shards} is always written first, so that a manifest can be told apart from an address book file
+ * by its first field.
+ */
+@JsonPropertyOrder({ JsonShardManifest.SHARDS_FIELD, "personShards", "ledgerShards", "generation" })
+class JsonShardManifest {
+
+    static final String SHARDS_FIELD = "shards";
+
+    /** The largest number of shards, so that the shard of a person or entry fits in a single digit. */
+    static final int MAX_SHARD_COUNT = Character.MAX_RADIX;
+
+    private final List<String> shards = new ArrayList<>();
+    private final String personShards;
+    private final String ledgerShards;
+    private final long generation;
+
+    /**
+     * Constructs a {@code JsonShardManifest} with the given shard files, shards of the persons and ledger entries,
+     * and generation of the save that wrote it.
+     */
+    @JsonCreator
+    public JsonShardManifest(@JsonProperty(SHARDS_FIELD) List<String> shards,
+            @JsonProperty("personShards") String personShards, @JsonProperty("ledgerShards") String ledgerShards,
+            @JsonProperty("generation") long generation) {
+        if (shards != null) {
+            this.shards.addAll(shards);
+        }
+        this.personShards = personShards == null ? "" : personShards;
+        this.ledgerShards = ledgerShards == null ? "" : ledgerShards;
+        this.generation = generation;
+    }
+
+    /**
+     * Returns the digit recording that a person or entry is held by shard {@code shard}.
+     */
+    static char toDigit(int shard) {
+        return Character.forDigit(shard, MAX_SHARD_COUNT);
+    }
+
+    /**
+     * Returns the shard recorded by {@code digit}, or -1 if it does not record a shard.
+     */
+    static int toShard(char digit) {
+        return Character.digit(digit, MAX_SHARD_COUNT);
+    }
+
+    /**
+     * Returns the names of the shard files, indexed by shard.
+     */
+    List<String> getShards() {
+        return shards;
+    }
+
+    /**
+     * Returns the shard of each person, in order, one digit each.
+     */
+    String getPersonShards() {
+        return personShards;
+    }
+
+    /**
+     * Returns the shard of each ledger entry, in order, one digit each.
+     */
+    String getLedgerShards() {
+        return ledgerShards;
+    }
+
+    long getGeneration() {
+        return generation;
+    }
+}
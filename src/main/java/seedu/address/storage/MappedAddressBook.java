@@ -0,0 +1,86 @@
+package seedu.address.storage;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Objects;
+
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.payment.LedgerEntry;
+import seedu.address.model.person.Person;
+
+/**
+ * An unmodifiable view of an address book in a {@link MappedAddressBookFile}, which decodes each person and ledger
+ * entry only when it is asked for and does not keep it.
+ * Opening the view only reads the header of the file, and going through it holds one record at a time, so the time
+ * to open it and the memory it needs do not grow with the size of the address book.
+ *
+ * The view reads the file as it is at the time of each call, so it must not be used while the file is being saved.
+ * A record that turns out to be invalid when it is decoded is reported with an {@code IllegalStateException}.
+ */
+public class MappedAddressBook implements ReadOnlyAddressBook {
+
+    static final String MESSAGE_INVALID_RECORD = "Record %1$d of the address book is invalid: %2$s";
+
+    private final MappedAddressBookFile file;
+    private final ObservableList<Person> persons;
+    private final List<LedgerEntry> ledgerEntries;
+
+    MappedAddressBook(MappedAddressBookFile file) {
+        this.file = file;
+        persons = new PersonRecords();
+        ledgerEntries = new LedgerEntryRecords();
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public List<LedgerEntry> getLedgerEntries() {
+        return ledgerEntries;
+    }
+
+    /**
+     * The person records of the file, decoded as they are read. The list never changes, as the view is unmodifiable.
+     */
+    private class PersonRecords extends ObservableListBase<Person> {
+        @Override
+        public Person get(int index) {
+            Objects.checkIndex(index, size());
+            try {
+                return file.readPerson(index);
+            } catch (IllegalValueException ive) {
+                throw new IllegalStateException(String.format(MESSAGE_INVALID_RECORD, index, ive.getMessage()), ive);
+            }
+        }
+
+        @Override
+        public int size() {
+            return file.getPersonCount();
+        }
+    }
+
+    /**
+     * The ledger entry records of the file, decoded as they are read.
+     */
+    private class LedgerEntryRecords extends AbstractList<LedgerEntry> {
+        @Override
+        public LedgerEntry get(int index) {
+            Objects.checkIndex(index, size());
+            try {
+                return file.readLedgerEntry(index);
+            } catch (IllegalValueException ive) {
+                throw new IllegalStateException(String.format(MESSAGE_INVALID_RECORD, index, ive.getMessage()), ive);
+            }
+        }
+
+        @Override
+        public int size() {
+            return file.getLedgerCount();
+        }
+    }
+}
@@ -0,0 +1,601 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.payment.LedgerEntry;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.CurrentGrade;
+import seedu.address.model.person.CurrentYear;
+import seedu.address.model.person.EduLevel;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.ExpectedGrade;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.PaymentInfo;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * An address book file of fixed-size records, mapped into memory, so that any person or ledger entry can be read or
+ * written without going through the rest of the file.
+ *
+ * The file starts with a header of {@value #HEADER_SIZE} bytes, followed by room for {@code personCapacity} person
+ * records of {@value #PERSON_RECORD_SIZE} bytes, room for {@code ledgerCapacity} ledger entry records of
+ * {@value #LEDGER_RECORD_SIZE} bytes, and a heap of {@code heapCapacity} bytes holding the text of the records.
+ * A record refers to each of its strings by the offset and length of its UTF-8 bytes in the heap. Strings are only
+ * ever appended to the heap, so the strings of overwritten records stay behind until the file is rewritten.
+ *
+ * The header records whether a write is in progress. Before a write changes any record, the header and the records
+ * it is about to overwrite are kept in an undo log beside the file, and both the undo log and the header are forced
+ * to the storage device. A file left behind by an interrupted write is rolled back with its undo log when it is next
+ * opened, and the records are forced to the device before the header marks the write as finished, so a file marked
+ * as finished is never missing records.
+ */
+class MappedAddressBookFile {
+
+    /** The first four bytes of every mapped address book file, "TSAM". */
+    static final int MAGIC = 0x5453414D;
+    static final int VERSION = 1;
+
+    static final int HEADER_SIZE = 64;
+    static final int PERSON_RECORD_SIZE = 96;
+    static final int LEDGER_RECORD_SIZE = 40;
+
+    static final String MESSAGE_NOT_MAPPED = "Address book data is not in the mapped format";
+    static final String MESSAGE_UNSUPPORTED_VERSION = "Address book data is in an unsupported mapped format version %d";
+    static final String MESSAGE_INCOMPLETE_WRITE = "Address book data was not completely saved";
+    static final String MESSAGE_INVALID_LAYOUT = "Address book data does not fit its file";
+    static final String MESSAGE_INVALID_STRING = "Address book data refers to text outside its file";
+    static final String MESSAGE_TOO_LARGE = "Address book is too large for the mapped format";
+
+    static final String UNDO_LOG_SUFFIX = ".undo";
+
+    private static final int STATE_COMPLETE = 0;
+    private static final int STATE_WRITING = 1;
+
+    private static final int STATE_OFFSET = 8;
+    private static final int PERSON_COUNT_OFFSET = 12;
+    private static final int PERSON_CAPACITY_OFFSET = 16;
+    private static final int LEDGER_COUNT_OFFSET = 20;
+    private static final int LEDGER_CAPACITY_OFFSET = 24;
+    private static final int HEAP_SIZE_OFFSET = 28;
+    private static final int HEAP_CAPACITY_OFFSET = 32;
+
+    /** Offsets within a person record, after its {@value #PERSON_STRING_COUNT} string references. */
+    private static final int PERSON_STRING_COUNT = 10;
+    private static final int PAYMENT_FEE_OFFSET = PERSON_STRING_COUNT * Long.BYTES;
+    private static final int PAYMENT_EPOCH_DAY_OFFSET = PAYMENT_FEE_OFFSET + Integer.BYTES;
+
+    /** Offsets within a ledger entry record, after its student name reference. */
+    private static final int RECORDED_EPOCH_DAY_OFFSET = Long.BYTES;
+    private static final int OUTSTANDING_CHANGE_OFFSET = RECORDED_EPOCH_DAY_OFFSET + Long.BYTES;
+    private static final int RECEIVED_CHANGE_OFFSET = OUTSTANDING_CHANGE_OFFSET + Long.BYTES;
+    private static final int YEAR_OFFSET = RECEIVED_CHANGE_OFFSET + Long.BYTES;
+    private static final int MONTH_OFFSET = YEAR_OFFSET + Integer.BYTES;
+
+    private static final String TAG_SEPARATOR = " ";
+    private static final int MOVE_CHUNK_SIZE = 64 * 1024;
+
+    /** Unmaps a buffer right away, or does nothing if the platform does not allow it. */
+    private static final Consumer<ByteBuffer> UNMAPPER = findUnmapper();
+
+    private final Path filePath;
+    private final MappedByteBuffer buffer;
+    private final int personCapacity;
+    private final int ledgerCapacity;
+    private final int heapCapacity;
+    private final int ledgerStart;
+    private final int heapStart;
+    private int heapSize;
+
+    private MappedAddressBookFile(Path filePath, MappedByteBuffer buffer) {
+        this.filePath = filePath;
+        this.buffer = buffer;
+        personCapacity = buffer.getInt(PERSON_CAPACITY_OFFSET);
+        ledgerCapacity = buffer.getInt(LEDGER_CAPACITY_OFFSET);
+        heapCapacity = buffer.getInt(HEAP_CAPACITY_OFFSET);
+        heapSize = buffer.getInt(HEAP_SIZE_OFFSET);
+        ledgerStart = HEADER_SIZE + personCapacity * PERSON_RECORD_SIZE;
+        heapStart = ledgerStart + ledgerCapacity * LEDGER_RECORD_SIZE;
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} starts like a mapped address book file.
+     *
+     * @throws IOException if the file could not be read.
+     */
+    static boolean isMappedFile(Path filePath) throws IOException {
+        try (InputStream in = Files.newInputStream(filePath)) {
+            byte[] start = in.readNBytes(Integer.BYTES);
+            return start.length == Integer.BYTES && ByteBuffer.wrap(start).getInt() == MAGIC;
+        }
+    }
+
+    /**
+     * Maps the mapped address book file at {@code filePath}, which must exist, after checking its header.
+     * A file left behind by an interrupted write is first rolled back with its undo log, even if it is opened only
+     * for reading. Otherwise only the header is read, so this takes the same time however large the file is.
+     *
+     * @param isWritable whether records will be written to the file.
+     * @throws IOException if the file could not be mapped, is not in the mapped format, or was not completely saved
+     *     and could not be rolled back.
+     */
+    static MappedAddressBookFile open(Path filePath, boolean isWritable) throws IOException {
+        MappedByteBuffer buffer = map(filePath, isWritable);
+        if (buffer.getInt(0) != MAGIC) {
+            throw new IOException(MESSAGE_NOT_MAPPED);
+        }
+        int version = buffer.getInt(Integer.BYTES);
+        if (version < 1 || version > VERSION) {
+            throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+        if (buffer.getInt(STATE_OFFSET) != STATE_COMPLETE) {
+            UNMAPPER.accept(buffer);
+            rollBack(filePath);
+            buffer = map(filePath, isWritable);
+        } else if (isWritable) {
+            // left behind by a write interrupted before it changed the file, or after it was finished
+            Files.deleteIfExists(getUndoLogPath(filePath));
+        }
+
+        long personCapacity = buffer.getInt(PERSON_CAPACITY_OFFSET);
+        long ledgerCapacity = buffer.getInt(LEDGER_CAPACITY_OFFSET);
+        long heapCapacity = buffer.getInt(HEAP_CAPACITY_OFFSET);
+        int personCount = buffer.getInt(PERSON_COUNT_OFFSET);
+        int ledgerCount = buffer.getInt(LEDGER_COUNT_OFFSET);
+        int heapSize = buffer.getInt(HEAP_SIZE_OFFSET);
+        if (personCapacity < 0 || ledgerCapacity < 0 || heapCapacity < 0
+                || personCount < 0 || personCount > personCapacity || ledgerCount < 0 || ledgerCount > ledgerCapacity
+                || heapSize < 0 || heapSize > heapCapacity
+                || getFileSize(personCapacity, ledgerCapacity, heapCapacity) > buffer.capacity()) {
+            throw new IOException(MESSAGE_INVALID_LAYOUT);
+        }
+        return new MappedAddressBookFile(filePath, buffer);
+    }
+
+    private static MappedByteBuffer map(Path filePath, boolean isWritable) throws IOException {
+        try (FileChannel channel = isWritable
+                ? FileChannel.open(filePath, StandardOpenOption.READ, StandardOpenOption.WRITE)
+                : FileChannel.open(filePath, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_SIZE || channel.size() > Integer.MAX_VALUE) {
+                throw new IOException(MESSAGE_INVALID_LAYOUT);
+            }
+            return channel.map(isWritable ? FileChannel.MapMode.READ_WRITE : FileChannel.MapMode.READ_ONLY, 0,
+                    channel.size());
+        }
+    }
+
+    /**
+     * Puts back the header and records kept in the undo log of the file at {@code filePath}, forces them to the
+     * storage device, and deletes the undo log.
+     *
+     * @throws IOException if the undo log is missing or incomplete, in which case the file is not changed.
+     */
+    private static void rollBack(Path filePath) throws IOException {
+        Path undoLogPath = getUndoLogPath(filePath);
+        if (!Files.exists(undoLogPath)) {
+            throw new IOException(MESSAGE_INCOMPLETE_WRITE);
+        }
+        MappedByteBuffer undoLog;
+        try (FileChannel channel = FileChannel.open(undoLogPath, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_SIZE + Long.BYTES || channel.size() > Integer.MAX_VALUE) {
+                throw new IOException(MESSAGE_INCOMPLETE_WRITE);
+            }
+            undoLog = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        int checkedSize = undoLog.capacity() - Long.BYTES;
+        CRC32 checksum = new CRC32();
+        checksum.update(undoLog.slice(0, checkedSize));
+        if (checksum.getValue() != undoLog.getLong(checkedSize)
+                || undoLog.getInt(0) != 0 || undoLog.getInt(Integer.BYTES) != HEADER_SIZE
+                || undoLog.getInt(2 * Integer.BYTES + STATE_OFFSET) != STATE_COMPLETE
+                || !hasValidRanges(undoLog, checkedSize, Files.size(filePath))) {
+            UNMAPPER.accept(undoLog);
+            throw new IOException(MESSAGE_INCOMPLETE_WRITE);
+        }
+
+        MappedByteBuffer buffer = map(filePath, true);
+        for (int position = 0; position < checkedSize;) {
+            int offset = undoLog.getInt(position);
+            int length = undoLog.getInt(position + Integer.BYTES);
+            position += 2 * Integer.BYTES;
+            buffer.put(offset, undoLog, position, length);
+            position += length;
+        }
+        buffer.force();
+        UNMAPPER.accept(buffer);
+        UNMAPPER.accept(undoLog);
+        Files.delete(undoLogPath);
+    }
+
+    /**
+     * Returns true if the ranges kept in the first {@code checkedSize} bytes of {@code undoLog} are whole, and all lie
+     * within a file of {@code fileSize} bytes.
+     */
+    private static boolean hasValidRanges(ByteBuffer undoLog, int checkedSize, long fileSize) {
+        int position = 0;
+        while (position < checkedSize) {
+            if (checkedSize - position < 2 * Integer.BYTES) {
+                return false;
+            }
+            long offset = undoLog.getInt(position);
+            long length = undoLog.getInt(position + Integer.BYTES);
+            position += 2 * Integer.BYTES;
+            if (offset < 0 || length < 0 || offset + length > fileSize || length > checkedSize - position) {
+                return false;
+            }
+            position += (int) length;
+        }
+        return true;
+    }
+
+    private static Path getUndoLogPath(Path filePath) {
+        return Paths.get(filePath + UNDO_LOG_SUFFIX);
+    }
+
+    /**
+     * Creates an empty mapped address book file at {@code filePath}, replacing any file there, with room for the
+     * given numbers of persons, ledger entries and bytes of text. The file is left marked as being written.
+     *
+     * @throws IOException if the file could not be created, or would be too large to map.
+     */
+    static MappedAddressBookFile create(Path filePath, int personCapacity, int ledgerCapacity, int heapCapacity)
+            throws IOException {
+        long fileSize = getFileSize(personCapacity, ledgerCapacity, heapCapacity);
+        if (fileSize > Integer.MAX_VALUE) {
+            throw new IOException(MESSAGE_TOO_LARGE);
+        }
+
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, fileSize);
+        }
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(Integer.BYTES, VERSION);
+        buffer.putInt(STATE_OFFSET, STATE_WRITING);
+        buffer.putInt(PERSON_CAPACITY_OFFSET, personCapacity);
+        buffer.putInt(LEDGER_CAPACITY_OFFSET, ledgerCapacity);
+        buffer.putInt(HEAP_CAPACITY_OFFSET, heapCapacity);
+        return new MappedAddressBookFile(filePath, buffer);
+    }
+
+    private static long getFileSize(long personCapacity, long ledgerCapacity, long heapCapacity) {
+        return HEADER_SIZE + personCapacity * PERSON_RECORD_SIZE + ledgerCapacity * LEDGER_RECORD_SIZE + heapCapacity;
+    }
+
+    int getPersonCount() {
+        return buffer.getInt(PERSON_COUNT_OFFSET);
+    }
+
+    int getPersonCapacity() {
+        return personCapacity;
+    }
+
+    int getLedgerCount() {
+        return buffer.getInt(LEDGER_COUNT_OFFSET);
+    }
+
+    int getLedgerCapacity() {
+        return ledgerCapacity;
+    }
+
+    /**
+     * Returns the number of bytes of text that can still be written.
+     */
+    int getFreeHeapSize() {
+        return heapCapacity - heapSize;
+    }
+
+    /**
+     * Returns the address book holding every record of this file.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    AddressBook toAddressBook() throws IllegalValueException {
+        AddressBookAssembler assembler = new AddressBookAssembler();
+        readInto(assembler);
+        return assembler.build();
+    }
+
+    /**
+     * Reads every record of this file into {@code assembler}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    void readInto(AddressBookAssembler assembler) throws IllegalValueException {
+        int personCount = getPersonCount();
+        for (int i = 0; i < personCount; i++) {
+            assembler.addPerson(readPerson(i));
+        }
+        assembler.startLedger();
+        int ledgerCount = getLedgerCount();
+        for (int i = 0; i < ledgerCount; i++) {
+            assembler.addLedgerEntry(readLedgerEntry(i));
+        }
+    }
+
+    /**
+     * Reads the person in record {@code index}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    Person readPerson(int index) throws IllegalValueException {
+        int record = HEADER_SIZE + index * PERSON_RECORD_SIZE;
+        try {
+            Name name = new Name(readString(record, 0));
+            Phone phone = new Phone(readString(record, 1));
+            Email email = new Email(readString(record, 2));
+            Address address = new Address(readString(record, 3));
+            EduLevel eduLevel = new EduLevel(readString(record, 4));
+            CurrentYear currentYear = new CurrentYear(readString(record, 5));
+            CurrentGrade currentGrade = new CurrentGrade(readString(record, 6));
+            ExpectedGrade expectedGrade = new ExpectedGrade(readString(record, 7));
+            Set<Tag> tags = new HashSet<>();
+            String joinedTags = readString(record, 8);
+            if (!joinedTags.isEmpty()) {
+                for (String tag : joinedTags.split(TAG_SEPARATOR)) {
+                    tags.add(new Tag(tag));
+                }
+            }
+            long paymentEpochDay = buffer.getLong(record + PAYMENT_EPOCH_DAY_OFFSET);
+            String paymentDate = paymentEpochDay == PaymentInfo.NO_DATE
+                    ? ""
+                    : LocalDate.ofEpochDay(paymentEpochDay).format(StringUtil.DATE_FORMATTER);
+            PaymentInfo paymentInfo = new PaymentInfo.Builder()
+                    .setPaymentFee(buffer.getInt(record + PAYMENT_FEE_OFFSET))
+                    .setPaymentDate(paymentDate).setPaymentStatus(readString(record, 9)).build();
+            return new Person(name, phone, email, address, eduLevel, currentYear, currentGrade, expectedGrade, tags,
+                    paymentInfo);
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new IllegalValueException(e.getMessage());
+        }
+    }
+
+    /**
+     * Reads the ledger entry in record {@code index}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    LedgerEntry readLedgerEntry(int index) throws IllegalValueException {
+        int record = ledgerStart + index * LEDGER_RECORD_SIZE;
+        try {
+            return new LedgerEntry(readString(record, 0), buffer.getLong(record + RECORDED_EPOCH_DAY_OFFSET),
+                    YearMonth.of(buffer.getInt(record + YEAR_OFFSET), buffer.get(record + MONTH_OFFSET)),
+                    buffer.getLong(record + OUTSTANDING_CHANGE_OFFSET),
+                    buffer.getLong(record + RECEIVED_CHANGE_OFFSET));
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new IllegalValueException(e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the number of bytes of text that writing {@code person} adds to the heap.
+     */
+    static int getTextSize(Person person) {
+        int size = 0;
+        for (String value : getStrings(person)) {
+            size += value.getBytes(StandardCharsets.UTF_8).length;
+        }
+        return size;
+    }
+
+    /**
+     * Returns the number of bytes of text that writing {@code entry} adds to the heap.
+     */
+    static int getTextSize(LedgerEntry entry) {
+        return entry.getStudentName().getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    /**
+     * Marks this file as being written, until {@link #finishWrite(int, int)} is called, after keeping the header and
+     * the person and ledger entry records in the given ranges, which are all that the write may overwrite, in the
+     * undo log. Text is only appended to the heap, so it needs no undo.
+     * The undo log and then the header are forced to the storage device before this returns.
+     *
+     * @throws IOException if the undo log could not be written, in which case the file is not changed.
+     */
+    void startWrite(int personFrom, int personTo, int ledgerFrom, int ledgerTo) throws IOException {
+        Path undoLogPath = getUndoLogPath(filePath);
+        CRC32 checksum = new CRC32();
+        try (FileChannel channel = FileChannel.open(undoLogPath, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            writeUndoRecord(channel, checksum, 0, HEADER_SIZE);
+            writeUndoRecord(channel, checksum, HEADER_SIZE + personFrom * PERSON_RECORD_SIZE,
+                    (personTo - personFrom) * PERSON_RECORD_SIZE);
+            writeUndoRecord(channel, checksum, ledgerStart + ledgerFrom * LEDGER_RECORD_SIZE,
+                    (ledgerTo - ledgerFrom) * LEDGER_RECORD_SIZE);
+            writeFully(channel, ByteBuffer.allocate(Long.BYTES).putLong(0, checksum.getValue()));
+            channel.force(true);
+        }
+        forceDirectory(undoLogPath.toAbsolutePath().getParent());
+
+        buffer.putInt(STATE_OFFSET, STATE_WRITING);
+        buffer.force(0, HEADER_SIZE);
+    }
+
+    /**
+     * Appends the offset and length of a range of this file, and the bytes in it, to the undo log.
+     */
+    private void writeUndoRecord(FileChannel undoLog, CRC32 checksum, int offset, int length) throws IOException {
+        ByteBuffer range = ByteBuffer.allocate(2 * Integer.BYTES).putInt(0, offset).putInt(Integer.BYTES, length);
+        ByteBuffer bytes = buffer.slice(offset, length);
+        checksum.update(range.duplicate());
+        checksum.update(bytes.duplicate());
+        writeFully(undoLog, range);
+        writeFully(undoLog, bytes);
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer bytes) throws IOException {
+        while (bytes.hasRemaining()) {
+            channel.write(bytes);
+        }
+    }
+
+    /**
+     * Forces the entries of {@code directory}, such as a file just created in it, to the storage device.
+     */
+    private static void forceDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // some platforms cannot open a directory, and keep its entries as their file system does
+        }
+    }
+
+    /**
+     * Forces the written records to the storage device, and only then records the numbers of persons and ledger
+     * entries now in this file, marks the write as finished and forces the header, before deleting the undo log.
+     *
+     * @throws IOException if the undo log could not be deleted, which is then deleted when the file is next opened.
+     */
+    void finishWrite(int personCount, int ledgerCount) throws IOException {
+        buffer.force();
+        buffer.putInt(PERSON_COUNT_OFFSET, personCount);
+        buffer.putInt(LEDGER_COUNT_OFFSET, ledgerCount);
+        buffer.putInt(HEAP_SIZE_OFFSET, heapSize);
+        buffer.putInt(STATE_OFFSET, STATE_COMPLETE);
+        buffer.force(0, HEADER_SIZE);
+        Files.deleteIfExists(getUndoLogPath(filePath));
+    }
+
+    /**
+     * Unmaps this file, so that it can be replaced on platforms that do not allow a mapped file to be replaced.
+     * This file must not be used afterwards.
+     */
+    void close() {
+        UNMAPPER.accept(buffer);
+    }
+
+    /**
+     * Returns what unmaps a buffer through {@code sun.misc.Unsafe}, as there is no public way to, or what leaves the
+     * buffer to be unmapped when it is garbage collected if that is not available.
+     */
+    private static Consumer<ByteBuffer> findUnmapper() {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field unsafeField = unsafeClass.getDeclaredField("theUnsafe");
+            unsafeField.setAccessible(true);
+            Object unsafe = unsafeField.get(null);
+            Method invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+            return buffer -> {
+                try {
+                    invokeCleaner.invoke(unsafe, buffer);
+                } catch (ReflectiveOperationException e) {
+                    // the buffer stays mapped until it is garbage collected
+                }
+            };
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return buffer -> { };
+        }
+    }
+
+    /**
+     * Writes {@code person} to record {@code index}, appending its text to the heap, which must have room for it.
+     */
+    void writePerson(int index, Person person) {
+        int record = HEADER_SIZE + index * PERSON_RECORD_SIZE;
+        String[] strings = getStrings(person);
+        for (int i = 0; i < strings.length; i++) {
+            writeString(record, i, strings[i]);
+        }
+        PaymentInfo paymentInfo = person.getPaymentInfo();
+        buffer.putInt(record + PAYMENT_FEE_OFFSET, paymentInfo.getPaymentFee());
+        buffer.putLong(record + PAYMENT_EPOCH_DAY_OFFSET, paymentInfo.getPaymentEpochDay());
+    }
+
+    /**
+     * Writes {@code entry} to record {@code index}, appending its text to the heap, which must have room for it.
+     */
+    void writeLedgerEntry(int index, LedgerEntry entry) {
+        int record = ledgerStart + index * LEDGER_RECORD_SIZE;
+        writeString(record, 0, entry.getStudentName());
+        buffer.putLong(record + RECORDED_EPOCH_DAY_OFFSET, entry.getRecordedEpochDay());
+        buffer.putLong(record + OUTSTANDING_CHANGE_OFFSET, entry.getOutstandingChange());
+        buffer.putLong(record + RECEIVED_CHANGE_OFFSET, entry.getReceivedChange());
+        buffer.putInt(record + YEAR_OFFSET, entry.getMonth().getYear());
+        buffer.put(record + MONTH_OFFSET, (byte) entry.getMonth().getMonthValue());
+    }
+
+    /**
+     * Moves {@code count} person records from index {@code from} to index {@code to}, without decoding them.
+     */
+    void movePersons(int from, int to, int count) {
+        moveBytes(HEADER_SIZE + from * PERSON_RECORD_SIZE, HEADER_SIZE + to * PERSON_RECORD_SIZE,
+                count * PERSON_RECORD_SIZE);
+    }
+
+    /**
+     * Moves {@code count} ledger entry records from index {@code from} to index {@code to}, without decoding them.
+     */
+    void moveLedgerEntries(int from, int to, int count) {
+        moveBytes(ledgerStart + from * LEDGER_RECORD_SIZE, ledgerStart + to * LEDGER_RECORD_SIZE,
+                count * LEDGER_RECORD_SIZE);
+    }
+
+    /**
+     * Copies {@code length} bytes from {@code from} to {@code to} a chunk at a time, starting from the end that the
+     * copy does not overwrite before it is read.
+     */
+    private void moveBytes(int from, int to, int length) {
+        byte[] chunk = new byte[Math.min(length, MOVE_CHUNK_SIZE)];
+        for (int moved = 0; moved < length; moved += chunk.length) {
+            int chunkLength = Math.min(chunk.length, length - moved);
+            int offset = to > from ? length - moved - chunkLength : moved;
+            buffer.get(from + offset, chunk, 0, chunkLength);
+            buffer.put(to + offset, chunk, 0, chunkLength);
+        }
+    }
+
+    private String readString(int record, int field) throws IllegalValueException {
+        int reference = record + field * Long.BYTES;
+        int offset = buffer.getInt(reference);
+        int length = buffer.getInt(reference + Integer.BYTES);
+        if (offset < 0 || length < 0 || offset > heapSize - length) {
+            throw new IllegalValueException(MESSAGE_INVALID_STRING);
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(heapStart + offset, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private void writeString(int record, int field, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        buffer.put(heapStart + heapSize, bytes);
+        int reference = record + field * Long.BYTES;
+        buffer.putInt(reference, heapSize);
+        buffer.putInt(reference + Integer.BYTES, bytes.length);
+        heapSize += bytes.length;
+    }
+
+    private static String[] getStrings(Person person) {
+        return new String[] {person.getName().fullName, person.getPhone().value, person.getEmail().value,
+            person.getAddress().value, person.getEduLevel().value, person.getCurrentYear().value,
+            person.getCurrentGrade().value, person.getExpectedGrade().value,
+            person.getTags().stream().map(tag -> tag.fullTag).collect(Collectors.joining(TAG_SEPARATOR)),
+            person.getPaymentInfo().getPaymentStatus()};
+    }
+}
@@ -0,0 +1,305 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.payment.LedgerEntry;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access AddressBook data stored in a {@link MappedAddressBookFile}, a memory-mapped file of fixed-size
+ * records.
+ * A save overwrites only the records of the persons and ledger entries that changed since the previous save, in
+ * place, and moves the records after them if the number of records changed. The file is rewritten in full, with
+ * room to grow, only when it runs out of room, which also drops the text of overwritten records.
+ * {@link #openAddressBook()} gives a view of the file that decodes records only as they are read.
+ *
+ * The records a save overwrites in place are first kept in an undo log beside the file, so a save that is
+ * interrupted is rolled back to the previous save when the file is next read. A json or binary file found at the
+ * file path is read too, and is replaced at the next save.
+ */
+public class MappedAddressBookStorage implements AddressBookStorage {
+
+    /** The least room made for persons, and for ledger entries, when the file is rewritten. */
+    static final int MIN_RECORD_CAPACITY = 1024;
+    /** The least room made for text, in bytes, when the file is rewritten. */
+    static final int MIN_TEXT_CAPACITY = 64 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(MappedAddressBookStorage.class);
+
+    private final Path filePath;
+
+    /** The file at {@code filePath}, or null if what it holds is unknown, in which case the next save rewrites it. */
+    private MappedAddressBookFile file;
+    private List<Person> savedPersons;
+    private List<LedgerEntry> savedLedgerEntries;
+
+    public MappedAddressBookStorage(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * Every record is decoded and checked, as the whole address book is needed.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            if (!MappedAddressBookFile.isMappedFile(filePath)) {
+                return new JournaledAddressBookStorage(filePath).readAddressBook();
+            }
+            boolean isOwnFile = filePath.equals(this.filePath);
+            MappedAddressBookFile mappedFile = MappedAddressBookFile.open(filePath, isOwnFile);
+            AddressBook addressBook = mappedFile.toAddressBook();
+            if (isOwnFile) {
+                recordSaved(mappedFile, addressBook);
+            } else {
+                mappedFile.close();
+            }
+            return Optional.of(addressBook);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from address book file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    /**
+     * Returns a view of the address book at this storage's file path that decodes persons and ledger entries only as
+     * they are read, or {@code Optional.empty()} if the file is not found.
+     * Only the header of the file is read, and records are not checked until they are decoded.
+     *
+     * @throws DataLoadingException if the file is not a complete mapped address book file.
+     */
+    public Optional<MappedAddressBook> openAddressBook() throws DataLoadingException {
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(new MappedAddressBook(MappedAddressBookFile.open(filePath, false)));
+        } catch (IOException ioe) {
+            logger.warning("Error opening address book file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Address books saved anywhere other than this storage's file path are always written in full.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            writeFile(addressBook, filePath);
+            return;
+        }
+
+        MappedAddressBookFile savedFile = file;
+        // until the records are written, what the file holds is unknown
+        file = null;
+        boolean isUpdated;
+        try {
+            isUpdated = savedFile != null && updateFile(savedFile, addressBook);
+        } catch (IOException | RuntimeException e) {
+            // the next read opens the file again, to roll it back
+            savedFile.close();
+            throw e;
+        }
+        if (!isUpdated) {
+            if (savedFile != null) {
+                // some platforms do not allow a mapped file to be replaced
+                savedFile.close();
+            }
+            writeFile(addressBook, filePath);
+            savedFile = MappedAddressBookFile.open(filePath, true);
+        }
+        recordSaved(savedFile, addressBook);
+    }
+
+    /**
+     * Overwrites the records of {@code mappedFile} that differ from {@code addressBook}, which is compared with what
+     * was last saved by identity, as persons and ledger entries are immutable.
+     *
+     * @return false, without changing the file, if the file does not have room for the changes.
+     * @throws IOException if the file could not be written, in which case it is rolled back when it is next opened.
+     */
+    private boolean updateFile(MappedAddressBookFile mappedFile, ReadOnlyAddressBook addressBook)
+            throws IOException {
+        List<Person> persons = addressBook.getPersonList();
+        List<LedgerEntry> ledgerEntries = addressBook.getLedgerEntries();
+        ChangedRange personChanges = ChangedRange.of(savedPersons, persons);
+        ChangedRange ledgerChanges = ChangedRange.of(savedLedgerEntries, ledgerEntries);
+
+        long textSize = 0;
+        for (int i = personChanges.start; i < personChanges.end; i++) {
+            textSize += MappedAddressBookFile.getTextSize(persons.get(i));
+        }
+        for (int i = ledgerChanges.start; i < ledgerChanges.end; i++) {
+            textSize += MappedAddressBookFile.getTextSize(ledgerEntries.get(i));
+        }
+        if (persons.size() > mappedFile.getPersonCapacity() || ledgerEntries.size() > mappedFile.getLedgerCapacity()
+                || textSize > mappedFile.getFreeHeapSize()) {
+            return false;
+        }
+
+        // the records from the start of the changes to the end of the list are written or moved into
+        mappedFile.startWrite(personChanges.start, persons.size(), ledgerChanges.start, ledgerEntries.size());
+        mappedFile.movePersons(personChanges.savedEnd, personChanges.end, personChanges.getUnchangedEndCount());
+        for (int i = personChanges.start; i < personChanges.end; i++) {
+            mappedFile.writePerson(i, persons.get(i));
+        }
+        mappedFile.moveLedgerEntries(ledgerChanges.savedEnd, ledgerChanges.end, ledgerChanges.getUnchangedEndCount());
+        for (int i = ledgerChanges.start; i < ledgerChanges.end; i++) {
+            mappedFile.writeLedgerEntry(i, ledgerEntries.get(i));
+        }
+        mappedFile.finishWrite(persons.size(), ledgerEntries.size());
+        return true;
+    }
+
+    /**
+     * Writes {@code addressBook} as a new mapped address book file at {@code filePath}, with room for it to grow by
+     * half. The file is written beside its destination and then moved over it, through
+     * {@link FileUtil#writeAtomically(Path, FileUtil.ContentWriter)}.
+     */
+    private static void writeFile(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        List<Person> persons = addressBook.getPersonList();
+        List<LedgerEntry> ledgerEntries = addressBook.getLedgerEntries();
+        long textSize = 0;
+        for (Person person : persons) {
+            textSize += MappedAddressBookFile.getTextSize(person);
+        }
+        for (LedgerEntry entry : ledgerEntries) {
+            textSize += MappedAddressBookFile.getTextSize(entry);
+        }
+
+        int personCapacity = getCapacity(persons.size(), MIN_RECORD_CAPACITY);
+        int ledgerCapacity = getCapacity(ledgerEntries.size(), MIN_RECORD_CAPACITY);
+        int heapCapacity = getCapacity(textSize, MIN_TEXT_CAPACITY);
+        FileUtil.writeAtomically(filePath, temporaryFilePath -> {
+            MappedAddressBookFile mappedFile =
+                    MappedAddressBookFile.create(temporaryFilePath, personCapacity, ledgerCapacity, heapCapacity);
+            try {
+                for (int i = 0; i < persons.size(); i++) {
+                    mappedFile.writePerson(i, persons.get(i));
+                }
+                for (int i = 0; i < ledgerEntries.size(); i++) {
+                    mappedFile.writeLedgerEntry(i, ledgerEntries.get(i));
+                }
+                mappedFile.finishWrite(persons.size(), ledgerEntries.size());
+            } finally {
+                // unmapped before it is moved, as some platforms do not allow a mapped file to be replaced
+                mappedFile.close();
+            }
+        });
+    }
+
+    /**
+     * Returns the room to make for {@code size} records or bytes, so that the file can grow by half, and at least to
+     * {@code minCapacity}, before it has to be rewritten.
+     *
+     * @throws IOException if the room needed cannot be counted in an {@code int}.
+     */
+    private static int getCapacity(long size, int minCapacity) throws IOException {
+        long capacity = Math.max(size + size / 2, minCapacity);
+        if (capacity > Integer.MAX_VALUE) {
+            throw new IOException(MappedAddressBookFile.MESSAGE_TOO_LARGE);
+        }
+        return (int) capacity;
+    }
+
+    /**
+     * Remembers {@code addressBook} as what {@code mappedFile}, the file at this storage's file path, holds.
+     */
+    private void recordSaved(MappedAddressBookFile mappedFile, ReadOnlyAddressBook addressBook) {
+        if (file != null && file != mappedFile) {
+            file.close();
+        }
+        file = mappedFile;
+        savedPersons = List.copyOf(addressBook.getPersonList());
+        savedLedgerEntries = List.copyOf(addressBook.getLedgerEntries());
+    }
+
+    /**
+     * The range of a list that differs from what was saved, between the longest prefix and suffix of it that hold the
+     * same elements as what was saved.
+     */
+    private static class ChangedRange {
+        private final int start;
+        private final int end;
+        private final int savedEnd;
+        private final int savedSize;
+
+        private ChangedRange(int start, int end, int savedEnd, int savedSize) {
+            this.start = start;
+            this.end = end;
+            this.savedEnd = savedEnd;
+            this.savedSize = savedSize;
+        }
+
+        static ChangedRange of(List<?> saved, List<?> current) {
+            int shorterSize = Math.min(saved.size(), current.size());
+            int prefix = 0;
+            while (prefix < shorterSize && saved.get(prefix) == current.get(prefix)) {
+                prefix++;
+            }
+            int suffix = 0;
+            while (suffix < shorterSize - prefix
+                    && saved.get(saved.size() - 1 - suffix) == current.get(current.size() - 1 - suffix)) {
+                suffix++;
+            }
+            return new ChangedRange(prefix, current.size() - suffix, saved.size() - suffix, saved.size());
+        }
+
+        /**
+         * Returns the number of unchanged elements after the changed range.
+         */
+        int getUnchangedEndCount() {
+            return savedSize - savedEnd;
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.payment.LedgerEntry;
+import seedu.address.model.person.Person;
+
+/**
+ * Reads an address book saved by a {@link ShardedAddressBookStorage}: a {@link JsonShardManifest}, and the shard
+ * files it names.
+ * The shards are read and converted on all cores at once, and then merged in the order recorded by the manifest.
+ * The first error reported is always that of the first shard in the manifest with an error.
+ */
+class ShardedAddressBookReader {
+
+    static final String MESSAGE_SHARDS_MISMATCH = "Address book shards do not match their manifest";
+
+    /**
+     * Returns true if the file at {@code filePath} starts like a shard manifest.
+     *
+     * @throws IOException if the file could not be read.
+     */
+    static boolean isManifest(Path filePath) throws IOException {
+        try (JsonParser parser = JsonUtil.createJsonParser(filePath)) {
+            return parser.nextToken() == JsonToken.START_OBJECT && parser.nextToken() == JsonToken.FIELD_NAME
+                    && JsonShardManifest.SHARDS_FIELD.equals(parser.getCurrentName());
+        } catch (JsonProcessingException jpe) {
+            return false;
+        }
+    }
+
+    /**
+     * Reads the manifest at {@code manifestPath}, which must exist.
+     *
+     * @throws IOException if the file could not be read or is not a valid manifest.
+     */
+    static JsonShardManifest readManifest(Path manifestPath) throws IOException {
+        return JsonUtil.fromJsonString(FileUtil.readFromFile(manifestPath), JsonShardManifest.class);
+    }
+
+    /**
+     * Reads the address book described by {@code manifest}, whose shard files are beside {@code manifestPath}.
+     *
+     * @throws IOException if a shard file could not be read or is not valid JSON.
+     * @throws IllegalValueException if there were any data constraints violated, or the shards do not match the
+     *     manifest.
+     */
+    static AddressBook read(Path manifestPath, JsonShardManifest manifest) throws IOException, IllegalValueException {
+        AddressBookAssembler assembler = new AddressBookAssembler();
+        readInto(manifestPath, manifest, assembler);
+        return assembler.build();
+    }
+
+    /**
+     * Reads the persons and ledger entries of the address book described by {@code manifest}, whose shard files are
+     * beside {@code manifestPath}, into {@code assembler}.
+     *
+     * @throws IOException if a shard file could not be read or is not valid JSON.
+     * @throws IllegalValueException if there were any data constraints violated, or the shards do not match the
+     *     manifest.
+     */
+    static void readInto(Path manifestPath, JsonShardManifest manifest, AddressBookAssembler assembler)
+            throws IOException, IllegalValueException {
+        List<String> shardFiles = manifest.getShards();
+        ShardRead[] reads = new ShardRead[shardFiles.size()];
+        IntStream.range(0, reads.length).parallel()
+                .forEach(i -> reads[i] = ShardRead.of(manifestPath.resolveSibling(shardFiles.get(i))));
+
+        AddressBookAssembler[] shards = new AddressBookAssembler[reads.length];
+        for (int i = 0; i < reads.length; i++) {
+            shards[i] = reads[i].get();
+        }
+
+        int[] nextPersons = new int[shards.length];
+        for (char digit : manifest.getPersonShards().toCharArray()) {
+            int shard = getShard(digit, shards.length);
+            List<Person> persons = shards[shard].getPersons();
+            if (nextPersons[shard] == persons.size()) {
+                throw new IllegalValueException(MESSAGE_SHARDS_MISMATCH);
+            }
+            assembler.addPerson(persons.get(nextPersons[shard]++));
+        }
+
+        assembler.startLedger();
+        int[] nextEntries = new int[shards.length];
+        for (char digit : manifest.getLedgerShards().toCharArray()) {
+            int shard = getShard(digit, shards.length);
+            List<LedgerEntry> ledgerEntries = shards[shard].getLedgerEntries();
+            if (nextEntries[shard] == ledgerEntries.size()) {
+                throw new IllegalValueException(MESSAGE_SHARDS_MISMATCH);
+            }
+            assembler.addLedgerEntry(ledgerEntries.get(nextEntries[shard]++));
+        }
+
+        for (int i = 0; i < shards.length; i++) {
+            if (nextPersons[i] != shards[i].getPersons().size()
+                    || nextEntries[i] != shards[i].getLedgerEntries().size()) {
+                throw new IllegalValueException(MESSAGE_SHARDS_MISMATCH);
+            }
+        }
+    }
+
+    private static int getShard(char digit, int shardCount) throws IllegalValueException {
+        int shard = JsonShardManifest.toShard(digit);
+        if (shard < 0 || shard >= shardCount) {
+            throw new IllegalValueException(MESSAGE_SHARDS_MISMATCH);
+        }
+        return shard;
+    }
+
+    /**
+     * The outcome of reading one shard file: the persons and ledger entries it holds, or the exception the read
+     * threw.
+     */
+    private static class ShardRead {
+        private final AddressBookAssembler shard;
+        private final Exception exception;
+
+        private ShardRead(AddressBookAssembler shard, Exception exception) {
+            this.shard = shard;
+            this.exception = exception;
+        }
+
+        static ShardRead of(Path shardPath) {
+            AddressBookAssembler shard = new AddressBookAssembler();
+            try {
+                JsonAddressBookReader.readInto(shardPath, shard);
+                return new ShardRead(shard, null);
+            } catch (IOException | IllegalValueException | RuntimeException e) {
+                return new ShardRead(null, e);
+            }
+        }
+
+        /**
+         * Returns the persons and ledger entries read, or rethrows the exception the read threw.
+         */
+        AddressBookAssembler get() throws IOException, IllegalValueException {
+            if (exception instanceof IOException) {
+                throw (IOException) exception;
+            }
+            if (exception instanceof IllegalValueException) {
+                throw (IllegalValueException) exception;
+            }
+            if (exception instanceof RuntimeException) {
+                throw (RuntimeException) exception;
+            }
+            return shard;
+        }
+    }
+}
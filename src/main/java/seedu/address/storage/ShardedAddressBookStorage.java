@@ -0,0 +1,274 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.payment.LedgerEntry;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access AddressBook data split across several compact json shard files, named by a manifest kept at the
+ * file path.
+ * Each person is kept in the shard chosen by the hash of their name, together with the ledger entries of the
+ * student with that name, so a save only rewrites the shards whose persons or ledger entries changed since the
+ * previous save, and the manifest. Shards are read in parallel.
+ *
+ * Rewritten shards are written to new files, which the manifest is then atomically replaced to name, so an
+ * interrupted save leaves the previous save intact. The files no longer named are deleted afterwards. A json or
+ * binary file found at the file path is read too, and is replaced by a manifest and its shards at the next save.
+ */
+public class ShardedAddressBookStorage implements AddressBookStorage {
+
+    public static final int DEFAULT_SHARD_COUNT = 16;
+
+    private static final String SHARD_FILE_FORMAT = "%1$s.shard%2$d.%3$d";
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedAddressBookStorage.class);
+
+    private final Path filePath;
+    private final int shardCount;
+    private final List<JsonAddressBookWriter> shardWriters = new ArrayList<>();
+
+    /** Files named by the manifest at {@code filePath}, which are deleted once a save no longer names them. */
+    private List<String> savedShardFiles = List.of();
+    /** Persons of each shard in the files at {@code filePath}, or null if unknown, in which case all are written. */
+    private List<List<Person>> savedShardPersons;
+    private List<List<LedgerEntry>> savedShardLedgers;
+    private long savedGeneration;
+
+    public ShardedAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_SHARD_COUNT);
+    }
+
+    /**
+     * Creates a {@code ShardedAddressBookStorage} that keeps its manifest at {@code filePath}, and splits the address
+     * book across {@code shardCount} shards.
+     */
+    public ShardedAddressBookStorage(Path filePath, int shardCount) {
+        requireNonNull(filePath);
+        if (shardCount < 1 || shardCount > JsonShardManifest.MAX_SHARD_COUNT) {
+            throw new IllegalArgumentException("Shard count should be between 1 and "
+                    + JsonShardManifest.MAX_SHARD_COUNT + ": " + shardCount);
+        }
+        this.filePath = filePath;
+        this.shardCount = shardCount;
+        for (int i = 0; i < shardCount; i++) {
+            shardWriters.add(new JsonAddressBookWriter(true));
+        }
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the shard that keeps the person, or ledger entries of the student, named {@code name}.
+     */
+    int getShard(String name) {
+        return Math.floorMod(name.hashCode(), shardCount);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the manifest. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            if (!ShardedAddressBookReader.isManifest(filePath)) {
+                return new JournaledAddressBookStorage(filePath).readAddressBook();
+            }
+            JsonShardManifest manifest = ShardedAddressBookReader.readManifest(filePath);
+            AddressBook addressBook = ShardedAddressBookReader.read(filePath, manifest);
+            if (filePath.equals(this.filePath)) {
+                recordSaved(addressBook, manifest);
+            }
+            return Optional.of(addressBook);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from address book file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Address books saved anywhere other than this storage's file path are always written in full.
+     *
+     * @param filePath location of the manifest. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        boolean isOwnFile = filePath.equals(this.filePath);
+        List<List<Person>> shardPersons = new ArrayList<>();
+        List<List<LedgerEntry>> shardLedgers = new ArrayList<>();
+        for (int i = 0; i < shardCount; i++) {
+            shardPersons.add(new ArrayList<>());
+            shardLedgers.add(new ArrayList<>());
+        }
+        StringBuilder personShards = new StringBuilder();
+        for (Person person : addressBook.getPersonList()) {
+            int shard = getShard(person.getName().fullName);
+            shardPersons.get(shard).add(person);
+            personShards.append(JsonShardManifest.toDigit(shard));
+        }
+        StringBuilder ledgerShards = new StringBuilder();
+        for (LedgerEntry entry : addressBook.getLedgerEntries()) {
+            int shard = getShard(entry.getStudentName());
+            shardLedgers.get(shard).add(entry);
+            ledgerShards.append(JsonShardManifest.toDigit(shard));
+        }
+
+        long generation = Math.max(System.currentTimeMillis(), savedGeneration + 1);
+        List<String> shardFiles = new ArrayList<>();
+        List<Path> writtenFiles = new ArrayList<>();
+        FileUtil.createParentDirsOfFile(filePath);
+        try {
+            for (int i = 0; i < shardCount; i++) {
+                if (isOwnFile && isUnchanged(i, shardPersons.get(i), shardLedgers.get(i))) {
+                    shardFiles.add(savedShardFiles.get(i));
+                    continue;
+                }
+                String shardFile = String.format(SHARD_FILE_FORMAT, filePath.getFileName(), i, generation);
+                Path shardPath = filePath.resolveSibling(shardFile);
+                JsonAddressBookWriter writer = isOwnFile ? shardWriters.get(i) : new JsonAddressBookWriter(true);
+                writtenFiles.add(shardPath);
+                writer.write(shardPersons.get(i), shardLedgers.get(i), shardPath);
+                shardFiles.add(shardFile);
+            }
+
+            JsonShardManifest manifest = new JsonShardManifest(shardFiles, personShards.toString(),
+                    ledgerShards.toString(), generation);
+            if (isOwnFile) {
+                // until the manifest is replaced, which files it names is unknown
+                savedShardPersons = null;
+            }
+            // the manifest is written beside the file path and then moved over it
+            JsonUtil.saveJsonFile(manifest, filePath);
+        } catch (IOException ioe) {
+            for (Path writtenFile : writtenFiles) {
+                Files.deleteIfExists(writtenFile);
+            }
+            throw ioe;
+        }
+
+        if (isOwnFile) {
+            deleteUnnamedFiles(shardFiles);
+            savedShardFiles = shardFiles;
+            savedShardPersons = shardPersons;
+            savedShardLedgers = shardLedgers;
+            savedGeneration = generation;
+        }
+    }
+
+    /**
+     * Returns true if shard {@code shard} of the files at this storage's file path is known to hold exactly
+     * {@code persons} and {@code ledgerEntries}.
+     * Persons and ledger entries are immutable, so they are compared by identity.
+     */
+    private boolean isUnchanged(int shard, List<Person> persons, List<LedgerEntry> ledgerEntries) {
+        return savedShardPersons != null
+                && isSameElements(savedShardPersons.get(shard), persons)
+                && isSameElements(savedShardLedgers.get(shard), ledgerEntries);
+    }
+
+    private static boolean isSameElements(List<?> saved, List<?> current) {
+        if (saved.size() != current.size()) {
+            return false;
+        }
+        for (int i = 0; i < saved.size(); i++) {
+            if (saved.get(i) != current.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Remembers {@code addressBook}, read from the files named by {@code manifest}, as what the files at this
+     * storage's file path hold.
+     */
+    private void recordSaved(ReadOnlyAddressBook addressBook, JsonShardManifest manifest) {
+        savedShardFiles = manifest.getShards();
+        savedGeneration = manifest.getGeneration();
+        if (savedShardFiles.size() != shardCount) {
+            // every person may belong to another shard now, so all shards are written at the next save
+            savedShardPersons = null;
+            return;
+        }
+
+        savedShardPersons = new ArrayList<>();
+        savedShardLedgers = new ArrayList<>();
+        for (int i = 0; i < shardCount; i++) {
+            savedShardPersons.add(new ArrayList<>());
+            savedShardLedgers.add(new ArrayList<>());
+        }
+        List<Person> persons = addressBook.getPersonList();
+        for (int i = 0; i < persons.size(); i++) {
+            savedShardPersons.get(JsonShardManifest.toShard(manifest.getPersonShards().charAt(i))).add(persons.get(i));
+        }
+        List<LedgerEntry> ledgerEntries = addressBook.getLedgerEntries();
+        for (int i = 0; i < ledgerEntries.size(); i++) {
+            savedShardLedgers.get(JsonShardManifest.toShard(manifest.getLedgerShards().charAt(i)))
+                    .add(ledgerEntries.get(i));
+        }
+    }
+
+    /**
+     * Deletes the files named by the previous manifest at this storage's file path that are not in
+     * {@code shardFiles}. Files that cannot be deleted are left behind, as nothing reads them any more.
+     */
+    private void deleteUnnamedFiles(List<String> shardFiles) {
+        Set<String> namedFiles = new HashSet<>(shardFiles);
+        for (String savedShardFile : savedShardFiles) {
+            if (namedFiles.contains(savedShardFile)) {
+                continue;
+            }
+            try {
+                Files.deleteIfExists(filePath.resolveSibling(savedShardFile));
+            } catch (IOException ioe) {
+                logger.warning("Could not delete unused address book shard " + savedShardFile + ": " + ioe);
+            }
+        }
+    }
+}
@@ -145,7 +145,7 @@ public class PersonCard extends UiPart<Region> {
      */
     private void updatePaymentInfo(PaymentInfo paymentInfo) {
         boolean hasFee = paymentInfo.getPaymentFee() > 0;
-        boolean hasDate = !paymentInfo.getPaymentDate().isEmpty();
+        boolean hasDate = paymentInfo.hasPaymentDate();
         boolean hasStatus = !paymentInfo.getPaymentStatus().isEmpty();
 
         // Build the string dynamically based on what fields are available
@@ -171,7 +171,7 @@ public class PersonCard extends UiPart<Region> {
 
         this.paymentInfo.setText(sb.toString());
 
-        if (!paymentInfo.getPaymentDate().isEmpty() || !paymentInfo.getPaymentStatus().isEmpty()) {
+        if (hasDate || hasStatus) {
             this.paymentInfo.setStyle("-fx-text-fill: " + ColorUtil.getPaymentInfoColor(paymentInfo));
         }
     }
@@ -0,0 +1,40 @@
+package seedu.address.ui;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.fxml.FXML;
+import javafx.scene.control.Label;
+import javafx.scene.layout.Region;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonStatistics;
+
+/**
+ * A ui for the one-line summary of the address book's statistics, shown above the status bar.
+ */
+public class StatsPanel extends UiPart<Region> {
+
+    private static final String FXML = "StatsPanel.fxml";
+    private static final String SUMMARY_FORMAT = "%1$d persons | %2$d paid, %3$d waiting | $%4$d outstanding";
+
+    private final PersonStatistics statistics;
+
+    @FXML
+    private Label statsSummary;
+
+    /**
+     * Creates a {@code StatsPanel} showing {@code statistics}, refreshed whenever {@code persons} changes.
+     * The statistics are maintained by the address book, so a refresh only reads a few counters.
+     */
+    public StatsPanel(ObservableList<Person> persons, PersonStatistics statistics) {
+        super(FXML);
+        this.statistics = statistics;
+        persons.addListener((ListChangeListener<Person>) change -> refresh());
+        refresh();
+    }
+
+    private void refresh() {
+        statsSummary.setText(String.format(SUMMARY_FORMAT, statistics.getPersonCount(), statistics.getPaidCount(),
+                statistics.getWaitingCount(), statistics.getOutstandingFees()));
+    }
+
+}
@@ -1,13 +1,23 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +30,27 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void openStreams_compressedOrNot_readBackSame() throws Exception {
+        String content = "{\"persons\": []}\n".repeat(100);
+        for (boolean isCompressed : new boolean[] {false, true}) {
+            Path file = testFolder.resolve("file" + isCompressed);
+            try (OutputStream out = FileUtil.openOutputStream(file, isCompressed)) {
+                out.write(content.getBytes(StandardCharsets.UTF_8));
+            }
+            assertEquals(isCompressed, FileUtil.isCompressedFile(file));
+            try (InputStream in = FileUtil.openInputStream(file)) {
+                assertEquals(content, new String(in.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+
+        // too short to be compressed
+        Path shortFile = testFolder.resolve("short");
+        FileUtil.writeToFile(shortFile, "{");
+        assertFalse(FileUtil.isCompressedFile(shortFile));
+        try (InputStream in = FileUtil.openInputStream(shortFile)) {
+            assertEquals("{", new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
 }
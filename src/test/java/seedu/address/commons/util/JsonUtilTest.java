@@ -27,6 +27,18 @@ public class JsonUtilTest {
         assertEquals(FileUtil.readFromFile(SERIALIZATION_FILE), SerializableTestClass.JSON_STRING_REPRESENTATION);
     }
 
+    @Test
+    public void serializeObjectToJsonFile_compact_noWhitespace() throws IOException {
+        SerializableTestClass serializableTestClass = new SerializableTestClass();
+        serializableTestClass.setTestValues();
+
+        JsonUtil.serializeObjectToJsonFile(SERIALIZATION_FILE, serializableTestClass, true);
+
+        String expected = SerializableTestClass.JSON_STRING_REPRESENTATION.replaceAll("\\s*\\n\\s*", "")
+                .replace(" : ", ":").replace(", ", ",").replace("[ ", "[").replace(" ]", "]");
+        assertEquals(expected, FileUtil.readFromFile(SERIALIZATION_FILE));
+    }
+
     @Test
     public void deserializeObjectFromJsonFile_noExceptionThrown() throws IOException {
         FileUtil.writeToFile(SERIALIZATION_FILE, SerializableTestClass.JSON_STRING_REPRESENTATION);
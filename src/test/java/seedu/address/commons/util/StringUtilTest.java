@@ -123,6 +123,28 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for containsWordWithPrefixIgnoreCase ---------------------------
+
+    @Test
+    public void containsWordWithPrefixIgnoreCase_nullPrefix_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.containsWordWithPrefixIgnoreCase("typical", null));
+    }
+
+    @Test
+    public void containsWordWithPrefixIgnoreCase_multipleWordsPrefix_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, "Prefix parameter should be a single word", ()
+            -> StringUtil.containsWordWithPrefixIgnoreCase("typical sentence", "aaa BBB"));
+    }
+
+    @Test
+    public void containsWordWithPrefixIgnoreCase_validInputs_correctResult() {
+        assertTrue(StringUtil.containsWordWithPrefixIgnoreCase("aaa bBb ccc", "BB")); // Partial word
+        assertTrue(StringUtil.containsWordWithPrefixIgnoreCase("aaa bBb ccc", "ccc")); // Full word
+        assertTrue(StringUtil.containsWordWithPrefixIgnoreCase("aaa", "")); // Empty prefix matches any word
+        assertFalse(StringUtil.containsWordWithPrefixIgnoreCase("aaa bbb ccc", "bc")); // Not at start of word
+        assertFalse(StringUtil.containsWordWithPrefixIgnoreCase("aaa bbb ccc", "aaaa")); // Prefix longer than word
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
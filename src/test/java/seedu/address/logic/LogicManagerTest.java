@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -12,10 +14,14 @@ import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -23,7 +29,10 @@ import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.SortCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
@@ -39,6 +48,9 @@ import seedu.address.testutil.PersonBuilder;
 public class LogicManagerTest {
     private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy IO exception");
     private static final IOException DUMMY_AD_EXCEPTION = new AccessDeniedException("dummy access denied exception");
+    private static final long LONG_SAVE_DELAY_MILLIS = TimeUnit.HOURS.toMillis(1);
+    private static final String ADD_COMMAND_AMY = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+            + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + EDULEVEL_DESC_AMY + GRADE_DESC_AMY + EXP_GRADE_DESC_AMY;
 
     @TempDir
     public Path temporaryFolder;
@@ -85,6 +97,102 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_addressBookUnchanged_skipsSave() throws Exception {
+        AtomicInteger saveCount = new AtomicInteger();
+        logic = new LogicManager(model, createCountingStorage(saveCount));
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.execute(SortCommand.COMMAND_WORD);
+        assertEquals(0, saveCount.get());
+        assertEquals(2, logic.getSkippedSaveCount());
+
+        logic.execute(ADD_COMMAND_AMY);
+        assertEquals(1, saveCount.get());
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(1, saveCount.get());
+        assertEquals(3, logic.getSkippedSaveCount());
+    }
+
+    @Test
+    public void execute_whileLoading_rejectedUntilLoaded() throws Exception {
+        AtomicInteger saveCount = new AtomicInteger();
+        logic = new LogicManager(model, createCountingStorage(saveCount));
+        logic.startLoading();
+        assertTrue(logic.isLoading());
+        assertCommandException(ListCommand.COMMAND_WORD, LogicManager.MESSAGE_LOADING);
+
+        logic.finishLoading(getTypicalAddressBook(), true);
+        assertFalse(logic.isLoading());
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+
+        // the loaded address book is what storage holds, so it is not saved again
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(0, saveCount.get());
+    }
+
+    @Test
+    public void execute_afterLoadingDataNotFromStorage_saved() throws Exception {
+        AtomicInteger saveCount = new AtomicInteger();
+        logic = new LogicManager(model, createCountingStorage(saveCount));
+        logic.startLoading();
+
+        // such as sample data, used when no data file was found
+        logic.finishLoading(getTypicalAddressBook(), false);
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(1, saveCount.get());
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(1, saveCount.get());
+    }
+
+    @Test
+    public void execute_backgroundSaver_coalescesSavesUntilFlushed() throws Exception {
+        AtomicInteger saveCount = new AtomicInteger();
+        StorageManager storage = createCountingStorage(saveCount);
+        logic = new LogicManager(model, storage, LONG_SAVE_DELAY_MILLIS);
+
+        logic.execute(ADD_COMMAND_AMY);
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(0, saveCount.get());
+
+        logic.flushPendingSaves();
+        assertEquals(1, saveCount.get());
+        assertEquals(model.getAddressBook().getPersonList(), storage.readAddressBook().get().getPersonList());
+
+        // nothing left to save
+        logic.flushPendingSaves();
+        logic.execute(ExitCommand.COMMAND_WORD);
+        assertEquals(1, saveCount.get());
+
+        // exiting saves without waiting for the delay
+        logic.execute(DeleteCommand.COMMAND_WORD + " 1");
+        logic.execute(ExitCommand.COMMAND_WORD);
+        assertEquals(2, saveCount.get());
+    }
+
+    @Test
+    public void execute_backgroundSaveFails_reportsToHandler() throws Exception {
+        StorageManager storage = new StorageManager(new JsonAddressBookStorage(temporaryFolder.resolve("ab.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw DUMMY_AD_EXCEPTION;
+            }
+        }, new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        CompletableFuture<String> reportedMessage = new CompletableFuture<>();
+        logic = new LogicManager(model, storage, 0);
+        logic.setSaveFailureHandler(reportedMessage::complete);
+
+        logic.execute(ADD_COMMAND_AMY);
+        assertEquals(String.format(LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()),
+                reportedMessage.get(10, TimeUnit.SECONDS));
+
+        // failures when exiting are thrown instead
+        logic = new LogicManager(model, storage, LONG_SAVE_DELAY_MILLIS);
+        logic.execute(DeleteCommand.COMMAND_WORD + " 1");
+        assertCommandException(ExitCommand.COMMAND_WORD,
+                String.format(LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -143,6 +251,22 @@ public class LogicManagerTest {
         assertEquals(expectedModel, model);
     }
 
+    /**
+     * Returns a storage in the temporary folder that counts the address book saves in {@code saveCount}.
+     */
+    private StorageManager createCountingStorage(AtomicInteger saveCount) {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("countedAddressBook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                        saveCount.incrementAndGet();
+                        super.saveAddressBook(addressBook, filePath);
+                    }
+                };
+        return new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+    }
+
     /**
      * Tests the Logic component's handling of an {@code IOException} thrown by the Storage component.
      *
@@ -168,8 +292,7 @@ public class LogicManagerTest {
         logic = new LogicManager(model, storage);
 
         // Triggers the saveAddressBook method by executing an add command
-        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
-                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + EDULEVEL_DESC_AMY + GRADE_DESC_AMY + EXP_GRADE_DESC_AMY;
+        String addCommand = ADD_COMMAND_AMY;
         Person expectedPerson = new PersonBuilder(AMY).withTags().build();
         ModelManager expectedModel = new ModelManager();
         expectedModel.addPerson(expectedPerson);
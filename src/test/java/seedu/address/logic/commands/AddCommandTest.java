@@ -8,8 +8,14 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 
 import java.nio.file.Path;
+import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -22,7 +28,14 @@ import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.payment.MonthlyTotal;
+import seedu.address.model.person.CurrentGrade;
+import seedu.address.model.person.EduLevel;
+import seedu.address.model.person.ExpectedGrade;
+import seedu.address.model.person.FuzzyNameMatcher;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonStatistics;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddCommandTest {
@@ -108,6 +121,52 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Predicate<Person> getNameMatcher(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public FuzzyNameMatcher getFuzzyNameMatcher(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Predicate<Person> getTextMatcher(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Predicate<Person> getFieldMatcher(EduLevel eduLevel, CurrentGrade currentGrade,
+                ExpectedGrade expectedGrade, Set<Tag> tags) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Predicate<Person> getDueByMatcher(long lastDueEpochDay) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public NavigableMap<YearMonth, MonthlyTotal> getMonthlyPaymentTotals(YearMonth from, YearMonth to) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public PersonStatistics getPersonStatistics() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateFilteredPersonList(Predicate<Person> predicate, Comparator<Person> comparator) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void batch(Consumer<Model> mutations) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setGuiSettings(GuiSettings guiSettings) {
             throw new AssertionError("This method should not be called.");
@@ -133,11 +192,21 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void takeOverAddressBook(AddressBook newData) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ReadOnlyAddressBook getAddressBook() {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public long getAddressBookVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasPerson(Person person) {
             throw new AssertionError("This method should not be called.");
@@ -158,6 +227,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<Person> getFilteredPersonsWithAnyTag(Set<Tag> tags) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateFilteredPersonList(Predicate<Person> predicate) {
             throw new AssertionError("This method should not be called.");
@@ -4,14 +4,21 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.FilterCommand.FilterDescriptor;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
 import seedu.address.testutil.FilterDescriptorBuilder;
 
 /**
@@ -58,6 +65,26 @@ public class FilterCommandTest {
         assertCommandSuccess(filterCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_fieldsAndTags_answeredFromIndex() throws Exception {
+        List<Predicate<Person>> installedPredicates = new ArrayList<>();
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs()) {
+            @Override
+            public void updateFilteredPersonList(Predicate<Person> predicate) {
+                installedPredicates.add(predicate);
+                super.updateFilteredPersonList(predicate);
+            }
+        };
+        FilterDescriptor descriptor = new FilterDescriptorBuilder().withEduLevel("Bachelor").withTags("friends")
+                .build();
+
+        new FilterCommand(descriptor).execute(model);
+        // the descriptor is never installed, so it is not tested against each person
+        assertEquals(1, installedPredicates.size());
+        assertFalse(installedPredicates.get(0) instanceof FilterDescriptor);
+        assertEquals(List.of(ALICE, BENSON), model.getFilteredPersonList());
+    }
+
     @Test
     public void equals() {
         FilterDescriptor descriptor = new FilterDescriptorBuilder().withEduLevel("Primary")
@@ -0,0 +1,114 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.UniquePersonList;
+import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code OverdueCommand}.
+ */
+public class OverdueCommandTest {
+    private static final Person OVERDUE_LONG_AGO = new PersonBuilder().withName("Overdue Long Ago")
+            .withPaymentDate(daysFromToday(-30)).withPaymentStatus("Waiting").build();
+    private static final Person OVERDUE_YESTERDAY = new PersonBuilder().withName("Overdue Yesterday")
+            .withPaymentDate(daysFromToday(-1)).build();
+    private static final Person DUE_TODAY = new PersonBuilder().withName("Due Today")
+            .withPaymentDate(daysFromToday(0)).withPaymentStatus("Waiting").build();
+    private static final Person DUE_NEXT_WEEK = new PersonBuilder().withName("Due Next Week")
+            .withPaymentDate(daysFromToday(7)).withPaymentStatus("Waiting").build();
+    private static final Person PAID_LATE = new PersonBuilder().withName("Paid Late")
+            .withPaymentDate(daysFromToday(-5)).withPaymentStatus("Paid").build();
+
+    private Model model = new ModelManager(getOverdueAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getOverdueAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_noWindow_overduePersonsEarliestFirst() {
+        assertOverdueSuccess(Optional.empty(),
+                String.format(OverdueCommand.MESSAGE_SUCCESS_OVERDUE, 2),
+                Arrays.asList(OVERDUE_LONG_AGO, OVERDUE_YESTERDAY));
+    }
+
+    @Test
+    public void execute_withinDays_includesPaymentsDueSoon() {
+        assertOverdueSuccess(Optional.of(0),
+                String.format(OverdueCommand.MESSAGE_SUCCESS_WITHIN_DAYS, 3, 0),
+                Arrays.asList(OVERDUE_LONG_AGO, OVERDUE_YESTERDAY, DUE_TODAY));
+        assertOverdueSuccess(Optional.of(7),
+                String.format(OverdueCommand.MESSAGE_SUCCESS_WITHIN_DAYS, 4, 7),
+                Arrays.asList(OVERDUE_LONG_AGO, OVERDUE_YESTERDAY, DUE_TODAY, DUE_NEXT_WEEK));
+    }
+
+    @Test
+    public void execute_paymentMadeAfterListing_personRemovedFromList() {
+        new OverdueCommand(Optional.empty()).execute(model);
+        Person paid = new PersonBuilder(OVERDUE_YESTERDAY).withPaymentStatus("Paid").build();
+        model.setPerson(OVERDUE_YESTERDAY, paid);
+        assertEquals(Arrays.asList(OVERDUE_LONG_AGO), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void equals() {
+        OverdueCommand overdueCommand = new OverdueCommand(Optional.empty());
+        OverdueCommand withinWeekCommand = new OverdueCommand(Optional.of(7));
+
+        // same object -> returns true
+        assertTrue(overdueCommand.equals(overdueCommand));
+
+        // same values -> returns true
+        assertTrue(withinWeekCommand.equals(new OverdueCommand(Optional.of(7))));
+
+        // different types -> returns false
+        assertFalse(overdueCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(overdueCommand.equals(null));
+
+        // different window -> returns false
+        assertFalse(overdueCommand.equals(withinWeekCommand));
+    }
+
+    @Test
+    public void toStringMethod() {
+        OverdueCommand overdueCommand = new OverdueCommand(Optional.of(7));
+        String expected = OverdueCommand.class.getCanonicalName() + "{withinDays=" + Optional.of(7) + "}";
+        assertEquals(expected, overdueCommand.toString());
+    }
+
+    private void assertOverdueSuccess(Optional<Integer> withinDays, String expectedMessage,
+            List<Person> expectedPersons) {
+        expectedModel.updateFilteredPersonList(expectedPersons::contains, UniquePersonList.DUE_DATE_ORDER);
+        assertCommandSuccess(new OverdueCommand(withinDays), model, expectedMessage, expectedModel);
+        assertEquals(expectedPersons, model.getFilteredPersonList());
+    }
+
+    private static String daysFromToday(int days) {
+        return LocalDate.now().plusDays(days).format(StringUtil.DATE_FORMATTER);
+    }
+
+    private static AddressBook getOverdueAddressBook() {
+        return new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).withPerson(DUE_NEXT_WEEK)
+                .withPerson(OVERDUE_YESTERDAY).withPerson(PAID_LATE).withPerson(DUE_TODAY)
+                .withPerson(OVERDUE_LONG_AGO).build();
+    }
+}
@@ -0,0 +1,107 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import java.time.YearMonth;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code RevenueCommand}.
+ */
+public class RevenueCommandTest {
+    private static final YearMonth JANUARY = YearMonth.of(2025, 1);
+    private static final YearMonth FEBRUARY = YearMonth.of(2025, 2);
+    private static final YearMonth MARCH = YearMonth.of(2025, 3);
+
+    private static final Person JANUARY_PAID = new PersonBuilder().withName("January Paid").withPaymentFee(100)
+            .withPaymentDate("10-01-2025").withPaymentStatus("Paid").build();
+    private static final Person JANUARY_WAITING = new PersonBuilder().withName("January Waiting").withPaymentFee(40)
+            .withPaymentDate("20-01-2025").withPaymentStatus("Waiting").build();
+    private static final Person MARCH_WAITING = new PersonBuilder().withName("March Waiting").withPaymentFee(70)
+            .withPaymentDate("05-03-2025").withPaymentStatus("Waiting").build();
+
+    private Model model = new ModelManager(getRevenueAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getRevenueAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_range_monthsWithPaymentsAndTotal() {
+        String expectedMessage = String.format(RevenueCommand.MESSAGE_HEADER, "01-2025", "03-2025")
+                + "\n" + String.format(RevenueCommand.MESSAGE_MONTH, "01-2025", 100, 40)
+                + "\n" + String.format(RevenueCommand.MESSAGE_MONTH, "03-2025", 0, 70)
+                + "\n" + String.format(RevenueCommand.MESSAGE_TOTAL, 100, 110);
+        assertCommandSuccess(new RevenueCommand(Optional.of(JANUARY), Optional.of(MARCH)), model, expectedMessage,
+                expectedModel);
+    }
+
+    @Test
+    public void execute_singleMonthWithoutPayments_zeroTotal() {
+        String expectedMessage = String.format(RevenueCommand.MESSAGE_HEADER, "02-2025", "02-2025")
+                + "\n" + String.format(RevenueCommand.MESSAGE_TOTAL, 0, 0);
+        assertCommandSuccess(new RevenueCommand(Optional.empty(), Optional.of(FEBRUARY)), model, expectedMessage,
+                expectedModel);
+    }
+
+    @Test
+    public void execute_paymentMade_revenueUpdated() throws Exception {
+        model.setPerson(JANUARY_WAITING, new PersonBuilder(JANUARY_WAITING).withPaymentStatus("Paid").build());
+        String expectedMessage = String.format(RevenueCommand.MESSAGE_HEADER, "01-2025", "01-2025")
+                + "\n" + String.format(RevenueCommand.MESSAGE_MONTH, "01-2025", 140, 0)
+                + "\n" + String.format(RevenueCommand.MESSAGE_TOTAL, 140, 0);
+        assertEquals(expectedMessage,
+                new RevenueCommand(Optional.of(JANUARY), Optional.of(JANUARY)).execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_startAfterEnd_throwsCommandException() {
+        assertCommandFailure(new RevenueCommand(Optional.of(MARCH), Optional.of(JANUARY)), model,
+                String.format(RevenueCommand.MESSAGE_INVALID_RANGE, "03-2025", "01-2025"));
+    }
+
+    @Test
+    public void equals() {
+        RevenueCommand currentMonthCommand = new RevenueCommand(Optional.empty(), Optional.empty());
+        RevenueCommand rangeCommand = new RevenueCommand(Optional.of(JANUARY), Optional.of(MARCH));
+
+        // same object -> returns true
+        assertTrue(currentMonthCommand.equals(currentMonthCommand));
+
+        // same values -> returns true
+        assertTrue(rangeCommand.equals(new RevenueCommand(Optional.of(JANUARY), Optional.of(MARCH))));
+
+        // different types -> returns false
+        assertFalse(currentMonthCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(currentMonthCommand.equals(null));
+
+        // different range -> returns false
+        assertFalse(currentMonthCommand.equals(rangeCommand));
+    }
+
+    @Test
+    public void toStringMethod() {
+        RevenueCommand revenueCommand = new RevenueCommand(Optional.of(JANUARY), Optional.empty());
+        String expected = RevenueCommand.class.getCanonicalName() + "{from=" + Optional.of(JANUARY) + ", to="
+                + Optional.empty() + "}";
+        assertEquals(expected, revenueCommand.toString());
+    }
+
+    private static AddressBook getRevenueAddressBook() {
+        return new AddressBookBuilder().withPerson(JANUARY_PAID).withPerson(JANUARY_WAITING)
+                .withPerson(MARCH_WAITING).build();
+    }
+}
@@ -0,0 +1,86 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code SearchCommand}.
+ */
+public class SearchCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        SearchCommand searchFirstCommand = new SearchCommand(Collections.singletonList("first"));
+        SearchCommand searchSecondCommand = new SearchCommand(Collections.singletonList("second"));
+
+        // same object -> returns true
+        assertTrue(searchFirstCommand.equals(searchFirstCommand));
+
+        // same values -> returns true
+        assertTrue(searchFirstCommand.equals(new SearchCommand(Collections.singletonList("first"))));
+
+        // different types -> returns false
+        assertFalse(searchFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(searchFirstCommand.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(searchFirstCommand.equals(searchSecondCommand));
+    }
+
+    @Test
+    public void execute_addressFragment_multiplePersonsFound() {
+        assertSearchSuccess(Arrays.asList("TREET"), Arrays.asList(CARL, DANIEL, GEORGE));
+    }
+
+    @Test
+    public void execute_phoneFragmentAndAddress_personFound() {
+        assertSearchSuccess(Arrays.asList("9482", "street"), Arrays.asList(GEORGE));
+    }
+
+    @Test
+    public void execute_tagFragment_personFound() {
+        assertSearchSuccess(Arrays.asList("owes"), Arrays.asList(BENSON));
+    }
+
+    @Test
+    public void execute_noMatch_noPersonFound() {
+        assertSearchSuccess(Arrays.asList("alice", "street"), Collections.emptyList());
+    }
+
+    @Test
+    public void toStringMethod() {
+        List<String> keywords = Arrays.asList("keyword");
+        SearchCommand searchCommand = new SearchCommand(keywords);
+        String expected = SearchCommand.class.getCanonicalName() + "{keywords=" + keywords + "}";
+        assertEquals(expected, searchCommand.toString());
+    }
+
+    private void assertSearchSuccess(List<String> keywords, List<?> expectedPersons) {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, expectedPersons.size());
+        expectedModel.updateFilteredPersonList(expectedPersons::contains);
+        assertCommandSuccess(new SearchCommand(keywords), model, expectedMessage, expectedModel);
+        assertEquals(expectedPersons, model.getFilteredPersonList());
+    }
+}
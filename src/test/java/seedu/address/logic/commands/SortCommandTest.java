@@ -19,6 +19,7 @@ import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.TypicalPersons;
@@ -100,6 +101,29 @@ public class SortCommandTest {
 
     }
 
+    @Test
+    public void execute_addAfterSort_newPersonInSortedPosition() throws CommandException {
+        new SortCommand().execute(model);
+        Person newPerson = new PersonBuilder().withName("Bart").build();
+        model.addPerson(newPerson);
+
+        List<Person> persons = model.getFilteredPersonList();
+        assertEquals(newPerson, persons.get(1));
+        for (int i = 1; i < persons.size(); i++) {
+            assertTrue(persons.get(i - 1).getName().fullName
+                    .compareToIgnoreCase(persons.get(i).getName().fullName) <= 0);
+        }
+    }
+
+    @Test
+    public void execute_afterFuzzyFind_listedByName() throws CommandException {
+        new FindCommand(new NameContainsKeywordsPredicate(List.of("Kunz")), true).execute(model);
+        assertEquals(List.of(TypicalPersons.FIONA, TypicalPersons.CARL), model.getFilteredPersonList());
+
+        new SortCommand().execute(model);
+        assertEquals(List.of(TypicalPersons.CARL, TypicalPersons.FIONA), model.getFilteredPersonList());
+    }
+
     @Test
     public void parse_nonEmptyArgs_throwsParseException() {
         assertThrows(ParseException.class, () -> parser.parse(" name"));
@@ -0,0 +1,57 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code StatsCommand}.
+ */
+public class StatsCommandTest {
+    private static final Person PRIMARY_PAID = new PersonBuilder().withName("Primary Paid").withEduLevel("Primary")
+            .withCurrentGrade("B").withExpectedGrade("A").withPaymentFee(300).withPaymentStatus("Paid").build();
+    private static final Person PRIMARY_WAITING = new PersonBuilder().withName("Primary Waiting")
+            .withEduLevel("Primary").withCurrentGrade("C").withExpectedGrade("B").withPaymentFee(100)
+            .withPaymentStatus("Waiting").build();
+    private static final Person DIPLOMA_PAID = new PersonBuilder().withName("Diploma Paid").withEduLevel("Diploma")
+            .withExpectedGrade("A").withPaymentFee(200).withPaymentStatus("Paid").build();
+
+    @Test
+    public void execute_emptyAddressBook_showsZeroes() {
+        Model model = new ModelManager();
+        String expectedMessage = String.format(StatsCommand.MESSAGE_HEADER, 0)
+                + "\n" + String.format(StatsCommand.MESSAGE_EDU_LEVELS, StatsCommand.MESSAGE_NO_COUNTS)
+                + "\n" + String.format(StatsCommand.MESSAGE_CURRENT_GRADES, StatsCommand.MESSAGE_NO_COUNTS)
+                + "\n" + String.format(StatsCommand.MESSAGE_EXPECTED_GRADES, StatsCommand.MESSAGE_NO_COUNTS)
+                + "\n" + String.format(StatsCommand.MESSAGE_PAYMENTS, 0, 0)
+                + "\n" + String.format(StatsCommand.MESSAGE_FEES, 0, 0);
+        assertCommandSuccess(new StatsCommand(), model, expectedMessage, new ModelManager());
+    }
+
+    @Test
+    public void execute_persons_showsDistributionsAndPayments() {
+        Model model = new ModelManager(getStatsAddressBook(), new UserPrefs());
+        Model expectedModel = new ModelManager(getStatsAddressBook(), new UserPrefs());
+        String expectedMessage = String.format(StatsCommand.MESSAGE_HEADER, 3)
+                + "\n" + String.format(StatsCommand.MESSAGE_EDU_LEVELS, "Diploma: 1, Primary: 2")
+                + "\n" + String.format(StatsCommand.MESSAGE_CURRENT_GRADES, "B: 1, C: 1")
+                + "\n" + String.format(StatsCommand.MESSAGE_EXPECTED_GRADES, "A: 2, B: 1")
+                + "\n" + String.format(StatsCommand.MESSAGE_PAYMENTS, 2, 1)
+                + String.format(StatsCommand.MESSAGE_PAID_RATIO, 66)
+                + "\n" + String.format(StatsCommand.MESSAGE_FEES, 500, 100);
+        assertCommandSuccess(new StatsCommand(), model, expectedMessage, expectedModel);
+    }
+
+    private static AddressBook getStatsAddressBook() {
+        return new AddressBookBuilder().withPerson(PRIMARY_PAID).withPerson(PRIMARY_WAITING)
+                .withPerson(DIPLOMA_PAID).build();
+    }
+}
@@ -11,12 +11,16 @@ import static seedu.address.logic.commands.CommandTestUtil.PAYMENT_STATUS_DESC;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_PAYMENT_DATE;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_PAYMENT_FEE;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_PAYMENT_STATUS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM_MONTH;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_WITHIN_DAYS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_PERSON;
 
+import java.time.YearMonth;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
@@ -30,8 +34,12 @@ import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.OverdueCommand;
 import seedu.address.logic.commands.PaymentCommand;
 import seedu.address.logic.commands.PurgeCommand;
+import seedu.address.logic.commands.RevenueCommand;
+import seedu.address.logic.commands.SearchCommand;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.commands.ToggleThemeCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
@@ -92,6 +100,29 @@ public class AddressBookParserTest {
         assertEquals(new FindCommand(new NameContainsKeywordsPredicate(keywords)), command);
     }
 
+    @Test
+    public void parseCommand_overdue() throws Exception {
+        assertEquals(new OverdueCommand(Optional.empty()), parser.parseCommand(OverdueCommand.COMMAND_WORD));
+        assertEquals(new OverdueCommand(Optional.of(3)),
+                parser.parseCommand(OverdueCommand.COMMAND_WORD + " " + PREFIX_WITHIN_DAYS + "3"));
+    }
+
+    @Test
+    public void parseCommand_revenue() throws Exception {
+        assertEquals(new RevenueCommand(Optional.empty(), Optional.empty()),
+                parser.parseCommand(RevenueCommand.COMMAND_WORD));
+        assertEquals(new RevenueCommand(Optional.of(YearMonth.of(2025, 1)), Optional.empty()),
+                parser.parseCommand(RevenueCommand.COMMAND_WORD + " " + PREFIX_FROM_MONTH + "01-2025"));
+    }
+
+    @Test
+    public void parseCommand_search() throws Exception {
+        List<String> keywords = Arrays.asList("9435", "example.com");
+        SearchCommand command = (SearchCommand) parser.parseCommand(
+                SearchCommand.COMMAND_WORD + " " + String.join(" ", keywords));
+        assertEquals(new SearchCommand(keywords), command);
+    }
+
     @Test
     public void parseCommand_help() throws Exception {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD) instanceof HelpCommand);
@@ -102,6 +133,11 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD) instanceof ListCommand);
     }
 
+    @Test
+    public void parseCommand_stats() throws Exception {
+        assertTrue(parser.parseCommand(StatsCommand.COMMAND_WORD) instanceof StatsCommand);
+    }
+
     @Test
     public void parseCommand_payment() throws Exception {
         PaymentCommand command = (PaymentCommand) parser.parseCommand(PaymentCommand.COMMAND_WORD + " "
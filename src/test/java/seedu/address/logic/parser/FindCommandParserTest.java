@@ -29,6 +29,16 @@ public class FindCommandParserTest {
 
         // multiple whitespaces between keywords
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
+
+        // fuzzy flag
+        assertParseSuccess(parser, FindCommand.FUZZY_FLAG + " Alice Bob",
+                new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList("Alice", "Bob")), true));
+    }
+
+    @Test
+    public void parse_fuzzyFlagWithoutKeywords_throwsParseException() {
+        assertParseFailure(parser, FindCommand.FUZZY_FLAG,
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
     }
 
 }
@@ -0,0 +1,42 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_WITHIN_DAYS;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.OverdueCommand;
+
+public class OverdueCommandParserTest {
+
+    private OverdueCommandParser parser = new OverdueCommandParser();
+
+    @Test
+    public void parse_noArgs_returnsOverdueCommand() {
+        assertParseSuccess(parser, "   ", new OverdueCommand(Optional.empty()));
+    }
+
+    @Test
+    public void parse_withinDays_returnsOverdueCommand() {
+        assertParseSuccess(parser, " " + PREFIX_WITHIN_DAYS + "7", new OverdueCommand(Optional.of(7)));
+        assertParseSuccess(parser, " " + PREFIX_WITHIN_DAYS + " 0 ", new OverdueCommand(Optional.of(0)));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        // preamble
+        assertParseFailure(parser, "7", String.format(MESSAGE_INVALID_COMMAND_FORMAT, OverdueCommand.MESSAGE_USAGE));
+
+        // negative days
+        assertParseFailure(parser, " " + PREFIX_WITHIN_DAYS + "-1", ParserUtil.MESSAGE_INVALID_DAYS);
+
+        // duplicate prefix
+        assertParseFailure(parser, " " + PREFIX_WITHIN_DAYS + "1 " + PREFIX_WITHIN_DAYS + "2",
+                Messages.getErrorMessageForDuplicatePrefixes(PREFIX_WITHIN_DAYS));
+    }
+}
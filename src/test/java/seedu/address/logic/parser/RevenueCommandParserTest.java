@@ -0,0 +1,48 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM_MONTH;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO_MONTH;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.YearMonth;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.RevenueCommand;
+
+public class RevenueCommandParserTest {
+
+    private RevenueCommandParser parser = new RevenueCommandParser();
+
+    @Test
+    public void parse_noArgs_returnsRevenueCommand() {
+        assertParseSuccess(parser, "   ", new RevenueCommand(Optional.empty(), Optional.empty()));
+    }
+
+    @Test
+    public void parse_months_returnsRevenueCommand() {
+        assertParseSuccess(parser, " " + PREFIX_FROM_MONTH + "01-2025 " + PREFIX_TO_MONTH + " 03-2025 ",
+                new RevenueCommand(Optional.of(YearMonth.of(2025, 1)), Optional.of(YearMonth.of(2025, 3))));
+        assertParseSuccess(parser, " " + PREFIX_TO_MONTH + "12-2024",
+                new RevenueCommand(Optional.empty(), Optional.of(YearMonth.of(2024, 12))));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        // preamble
+        assertParseFailure(parser, "01-2025",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, RevenueCommand.MESSAGE_USAGE));
+
+        // invalid month
+        assertParseFailure(parser, " " + PREFIX_FROM_MONTH + "13-2025", ParserUtil.MESSAGE_INVALID_MONTH);
+        assertParseFailure(parser, " " + PREFIX_TO_MONTH + "2025-01", ParserUtil.MESSAGE_INVALID_MONTH);
+
+        // duplicate prefix
+        assertParseFailure(parser, " " + PREFIX_FROM_MONTH + "01-2025 " + PREFIX_FROM_MONTH + "02-2025",
+                Messages.getErrorMessageForDuplicatePrefixes(PREFIX_FROM_MONTH));
+    }
+}
@@ -18,6 +18,7 @@ import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.payment.LedgerEntry;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.testutil.PersonBuilder;
@@ -43,6 +44,28 @@ public class AddressBookTest {
         assertEquals(newData, addressBook);
     }
 
+    @Test
+    public void resetData_withAddressBook_copyIsIndependent() {
+        AddressBook newData = getTypicalAddressBook();
+        addressBook.resetData(newData);
+        newData.removePerson(ALICE);
+        assertTrue(addressBook.hasPerson(ALICE));
+        assertFalse(newData.hasPerson(ALICE));
+    }
+
+    @Test
+    public void takeOver_builtAddressBook_sameData() {
+        AddressBook newData = getTypicalAddressBook();
+        AddressBook expected = new AddressBook(newData);
+        addressBook.addPerson(new PersonBuilder().withName("Zed").build());
+        long version = addressBook.getVersion();
+
+        addressBook.takeOver(newData);
+        assertEquals(expected, addressBook);
+        assertEquals(expected.getLedgerEntries(), addressBook.getLedgerEntries());
+        assertTrue(addressBook.getVersion() != version);
+    }
+
     @Test
     public void resetData_withDuplicatePersons_throwsDuplicatePersonException() {
         // Two persons with the same identity fields
@@ -103,6 +126,11 @@ public class AddressBookTest {
         public ObservableList<Person> getPersonList() {
             return persons;
         }
+
+        @Override
+        public List<LedgerEntry> getLedgerEntries() {
+            return Collections.emptyList();
+        }
     }
 
 }
@@ -11,11 +11,15 @@ import static seedu.address.testutil.TypicalPersons.BENSON;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.AddressBookBuilder;
 
 public class ModelManagerTest {
@@ -93,6 +97,64 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void getFilteredPersonsWithAnyTag_filteredList_returnsOnlyShownPersons() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        Set<Tag> friends = Set.of(new Tag("friends"));
+        assertEquals(List.of(ALICE, BENSON), modelManager.getFilteredPersonsWithAnyTag(friends));
+        assertEquals(List.of(BENSON), modelManager.getFilteredPersonsWithAnyTag(Set.of(new Tag("OWESMONEY"))));
+
+        modelManager.updateFilteredPersonList(person -> person.equals(BENSON));
+        assertEquals(List.of(BENSON), modelManager.getFilteredPersonsWithAnyTag(friends));
+    }
+
+    @Test
+    public void batch_mutationThrows_rollsBackAndRethrows() {
+        modelManager.addPerson(ALICE);
+        assertThrows(DuplicatePersonException.class, () -> modelManager.batch(model -> {
+            model.deletePerson(ALICE);
+            model.addPerson(BENSON);
+            model.addPerson(BENSON);
+        }));
+        assertEquals(List.of(ALICE), modelManager.getFilteredPersonList());
+        assertTrue(modelManager.hasPerson(ALICE));
+        assertFalse(modelManager.hasPerson(BENSON));
+    }
+
+    @Test
+    public void getAddressBookVersion_changesOnlyWhenAddressBookChanges() {
+        long version = modelManager.getAddressBookVersion();
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(version, modelManager.getAddressBookVersion());
+
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(ALICE);
+        assertTrue(modelManager.getAddressBookVersion() != version);
+
+        // sorting a list that is out of order changes it, sorting it again does not
+        version = modelManager.getAddressBookVersion();
+        modelManager.sortPersonsByName();
+        assertTrue(modelManager.getAddressBookVersion() != version);
+        version = modelManager.getAddressBookVersion();
+        modelManager.sortPersonsByName();
+        assertEquals(version, modelManager.getAddressBookVersion());
+
+        // a rolled back batch leaves the address book as it was
+        assertThrows(DuplicatePersonException.class, () -> modelManager.batch(model -> model.addPerson(ALICE)));
+        assertEquals(version, modelManager.getAddressBookVersion());
+    }
+
+    @Test
+    public void batch_validMutations_appliedToFilteredList() {
+        modelManager.addPerson(ALICE);
+        modelManager.batch(model -> {
+            model.deletePerson(ALICE);
+            model.addPerson(BENSON);
+        });
+        assertEquals(List.of(BENSON), modelManager.getFilteredPersonList());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
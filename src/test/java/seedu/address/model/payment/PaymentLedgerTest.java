@@ -0,0 +1,209 @@
+package seedu.address.model.payment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class PaymentLedgerTest {
+
+    private static final long TODAY = LocalDate.of(2025, 3, 10).toEpochDay();
+    private static final YearMonth JANUARY = YearMonth.of(2025, 1);
+    private static final YearMonth FEBRUARY = YearMonth.of(2025, 2);
+    private static final YearMonth MARCH = YearMonth.of(2025, 3);
+
+    private static final Person AMY_WAITING = new PersonBuilder().withName("Amy").withPaymentFee(100)
+            .withPaymentDate("15-01-2025").withPaymentStatus("Waiting").build();
+    private static final Person AMY_PAID = new PersonBuilder(AMY_WAITING).withPaymentStatus("Paid").build();
+    private static final Person BOB_PAID = new PersonBuilder().withName("Bob").withPaymentFee(50)
+            .withPaymentDate("02-02-2025").withPaymentStatus("Paid").build();
+
+    private final PaymentLedger ledger = new PaymentLedger();
+
+    @Test
+    public void recordChange_addedPerson_feeInMonthOfPaymentDate() {
+        ledger.recordChange(null, AMY_WAITING, TODAY);
+        ledger.recordChange(null, BOB_PAID, TODAY);
+
+        assertEquals(new MonthlyTotal(100, 0), ledger.getTotal(JANUARY, JANUARY));
+        assertEquals(new MonthlyTotal(0, 50), ledger.getTotal(FEBRUARY, FEBRUARY));
+        assertEquals(new MonthlyTotal(100, 50), ledger.getTotal(JANUARY, MARCH));
+    }
+
+    @Test
+    public void recordChange_noDateOrNoFee() {
+        Person undated = new PersonBuilder().withName("Undated").withPaymentFee(80).build();
+        ledger.recordChange(null, undated, TODAY);
+        ledger.recordChange(null, new PersonBuilder().withName("Free").build(), TODAY);
+        assertEquals(List.of(new LedgerEntry("Undated", TODAY, MARCH, 80, 0)), ledger.getEntries());
+
+        // the undated fee stays in the month it was first recorded in
+        ledger.recordChange(undated, new PersonBuilder(undated).withPaymentFee(90).build(), TODAY + 30);
+        assertEquals(new MonthlyTotal(90, 0), ledger.getTotal(MARCH, MARCH));
+    }
+
+    @Test
+    public void recordChange_paid_movesFeeFromOutstandingToReceived() {
+        ledger.recordChange(null, AMY_WAITING, TODAY);
+        ledger.recordChange(AMY_WAITING, AMY_PAID, TODAY);
+
+        assertEquals(new LedgerEntry("Amy", TODAY, JANUARY, -100, 100), ledger.getEntries().get(1));
+        assertEquals(new MonthlyTotal(0, 100), ledger.getTotal(JANUARY, JANUARY));
+    }
+
+    @Test
+    public void recordChange_newPaymentDate_keepsHistoryAndMovesFee() {
+        ledger.recordChange(null, AMY_PAID, TODAY);
+        Person nextPayment = new PersonBuilder(AMY_PAID).withPaymentDate("15-02-2025").withPaymentStatus("Waiting")
+                .build();
+        ledger.recordChange(AMY_PAID, nextPayment, TODAY);
+
+        assertEquals(3, ledger.getEntriesFor("Amy").size());
+        assertEquals(MonthlyTotal.ZERO, ledger.getTotal(JANUARY, JANUARY));
+        assertEquals(new MonthlyTotal(100, 0), ledger.getTotal(FEBRUARY, FEBRUARY));
+    }
+
+    @Test
+    public void recordChange_unchangedPayment_noEntry() {
+        ledger.recordChange(null, AMY_WAITING, TODAY);
+        ledger.recordChange(AMY_WAITING, new PersonBuilder(AMY_WAITING).withPhone("99999999").build(), TODAY);
+        assertEquals(1, ledger.getEntries().size());
+    }
+
+    @Test
+    public void recordChange_renamedPerson_balanceFollowsName() {
+        ledger.recordChange(null, AMY_WAITING, TODAY);
+        Person renamed = new PersonBuilder(AMY_WAITING).withName("Amy Lee").build();
+        ledger.recordChange(AMY_WAITING, renamed, TODAY);
+        ledger.recordChange(renamed, null, TODAY);
+
+        assertEquals(List.of(new LedgerEntry("Amy Lee", TODAY, JANUARY, 100, 0),
+                new LedgerEntry("Amy Lee", TODAY, JANUARY, -100, 0)), ledger.getEntriesFor("Amy Lee"));
+        assertEquals(MonthlyTotal.ZERO, ledger.getTotal(JANUARY, JANUARY));
+    }
+
+    @Test
+    public void setEntries_replayAfterRename_sameBalances() {
+        ledger.recordChange(null, AMY_WAITING, TODAY);
+        Person renamed = new PersonBuilder(AMY_WAITING).withName("Amy Lee").build();
+        ledger.recordChange(AMY_WAITING, renamed, TODAY);
+        Person renamedPaid = new PersonBuilder(renamed).withPaymentStatus("Paid").build();
+        ledger.recordChange(renamed, renamedPaid, TODAY);
+        assertEquals(new MonthlyTotal(0, 100), ledger.getTotal(JANUARY, JANUARY));
+
+        PaymentLedger replayed = new PaymentLedger();
+        replayed.setEntries(new ArrayList<>(ledger.getEntries()));
+        assertEquals(ledger.getMonthlyTotals(JANUARY, MARCH), replayed.getMonthlyTotals(JANUARY, MARCH));
+
+        // the old name owes nothing after a reload, so a later change to the student is recorded the same way
+        Person nextPayment = new PersonBuilder(renamedPaid).withPaymentDate("15-02-2025").withPaymentStatus("Waiting")
+                .build();
+        ledger.recordChange(renamedPaid, nextPayment, TODAY);
+        replayed.recordChange(renamedPaid, nextPayment, TODAY);
+        assertEquals(ledger.getEntries(), replayed.getEntries());
+        assertEquals(ledger.getMonthlyTotals(JANUARY, MARCH), replayed.getMonthlyTotals(JANUARY, MARCH));
+        assertEquals(0, replayed.getEntriesFor("Amy").stream().mapToLong(LedgerEntry::getOutstandingChange).sum());
+    }
+
+    @Test
+    public void recordChange_removedPerson_keepsReceivedFees() {
+        ledger.recordChange(null, AMY_WAITING, TODAY);
+        ledger.recordChange(null, BOB_PAID, TODAY);
+        ledger.recordChange(AMY_WAITING, null, TODAY);
+        ledger.recordChange(BOB_PAID, null, TODAY);
+
+        assertEquals(new MonthlyTotal(0, 50), ledger.getTotal(JANUARY, MARCH));
+        assertEquals(List.of(new LedgerEntry("Bob" + PaymentLedger.REMOVED_SUFFIX, TODAY, FEBRUARY, 0, 50)),
+                ledger.getEntriesFor("Bob" + PaymentLedger.REMOVED_SUFFIX));
+    }
+
+    @Test
+    public void recordChange_removedThenAddedAgain_keepsReceivedFees() {
+        ledger.recordChange(null, AMY_PAID, TODAY);
+        ledger.recordChange(AMY_PAID, null, TODAY);
+
+        // a new student with the same name starts without fees, so editing them leaves the old fees alone
+        Person newAmy = new PersonBuilder().withName("Amy").withPaymentFee(70).build();
+        ledger.recordChange(null, newAmy, TODAY);
+        ledger.recordChange(newAmy, new PersonBuilder(newAmy).withPaymentFee(0).build(), TODAY);
+
+        assertEquals(new MonthlyTotal(0, 100), ledger.getTotal(JANUARY, JANUARY));
+        assertEquals(MonthlyTotal.ZERO, ledger.getTotal(MARCH, MARCH));
+
+        PaymentLedger replayed = new PaymentLedger();
+        replayed.setEntries(new ArrayList<>(ledger.getEntries()));
+        assertEquals(ledger.getMonthlyTotals(JANUARY, MARCH), replayed.getMonthlyTotals(JANUARY, MARCH));
+    }
+
+    @Test
+    public void recordChange_renamedToRemovedStudentsName_keepsReceivedFees() {
+        ledger.recordChange(null, AMY_PAID, TODAY);
+        ledger.recordChange(null, BOB_PAID, TODAY);
+        ledger.recordChange(AMY_PAID, null, TODAY);
+
+        Person bobAsAmy = new PersonBuilder(BOB_PAID).withName("Amy").build();
+        ledger.recordChange(BOB_PAID, bobAsAmy, TODAY);
+        ledger.recordChange(bobAsAmy, new PersonBuilder(bobAsAmy).withPaymentStatus("Waiting").build(), TODAY);
+
+        assertEquals(new MonthlyTotal(0, 100), ledger.getTotal(JANUARY, JANUARY));
+        assertEquals(new MonthlyTotal(50, 0), ledger.getTotal(FEBRUARY, FEBRUARY));
+    }
+
+    @Test
+    public void setEntries_replay_sameTotals() {
+        ledger.recordChange(null, AMY_WAITING, TODAY);
+        ledger.recordChange(null, BOB_PAID, TODAY);
+        ledger.recordChange(AMY_WAITING, AMY_PAID, TODAY);
+
+        PaymentLedger replayed = new PaymentLedger();
+        replayed.setEntries(new ArrayList<>(ledger.getEntries()));
+        assertEquals(ledger.getMonthlyTotals(JANUARY, MARCH), replayed.getMonthlyTotals(JANUARY, MARCH));
+
+        // balances are replayed too, so removing a student only moves what they paid off their name
+        replayed.recordChange(AMY_PAID, null, TODAY);
+        assertEquals(List.of(new LedgerEntry("Amy", TODAY, JANUARY, -100, 100),
+                new LedgerEntry("Amy", TODAY, JANUARY, 0, -100)), replayed.getEntriesFor("Amy").subList(1, 3));
+        assertEquals(ledger.getMonthlyTotals(JANUARY, MARCH), replayed.getMonthlyTotals(JANUARY, MARCH));
+    }
+
+    @Test
+    public void getEntriesSnapshot_laterChanges_snapshotUnchanged() {
+        Person undated = new PersonBuilder().withName("Undated").build();
+        List<LedgerEntry> expected = new ArrayList<>();
+        // enough entries to fill more than one chunk of the entry list
+        for (int fee = 1; fee <= 3000; fee++) {
+            Person before = undated;
+            undated = new PersonBuilder(undated).withPaymentFee(fee).build();
+            ledger.recordChange(fee == 1 ? null : before, undated, TODAY);
+            expected.add(ledger.getEntries().get(ledger.getEntries().size() - 1));
+        }
+        List<LedgerEntry> snapshot = ledger.getEntriesSnapshot();
+        assertEquals(expected, snapshot);
+
+        ledger.recordChange(null, AMY_WAITING, TODAY);
+        ledger.truncate(10);
+        ledger.recordChange(null, BOB_PAID, TODAY);
+        assertEquals(expected, snapshot);
+        ledger.setEntries(List.of());
+        assertEquals(expected, snapshot);
+    }
+
+    @Test
+    public void truncate_discardsLaterEntries() {
+        ledger.recordChange(null, AMY_WAITING, TODAY);
+        ledger.recordChange(AMY_WAITING, AMY_PAID, TODAY);
+        ledger.truncate(1);
+
+        assertEquals(1, ledger.getEntries().size());
+        assertEquals(new MonthlyTotal(100, 0), ledger.getTotal(JANUARY, JANUARY));
+        assertTrue(ledger.getMonthlyTotals(FEBRUARY, MARCH).isEmpty());
+    }
+}
@@ -0,0 +1,38 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+public class BkTreeTest {
+
+    @Test
+    public void distance() {
+        assertEquals(0, BkTree.distance("alice", "alice"));
+        assertEquals(1, BkTree.distance("alice", "alce")); // deletion
+        assertEquals(1, BkTree.distance("alce", "alice")); // insertion
+        assertEquals(1, BkTree.distance("alice", "alise")); // substitution
+        assertEquals(2, BkTree.distance("alice", "alcie")); // transposition counts as two edits
+        assertEquals(5, BkTree.distance("", "alice"));
+    }
+
+    @Test
+    public void search_returnsWordsWithinDistance() {
+        BkTree tree = new BkTree();
+        for (String word : new String[] {"kurz", "kunz", "meier", "meyer", "kurz"}) {
+            tree.add(word);
+        }
+        assertEquals(4, tree.size());
+
+        Map<String, Integer> matches = new HashMap<>();
+        tree.search("kunz", 1, matches::put);
+        assertEquals(Map.of("kunz", 0, "kurz", 1), matches);
+
+        matches.clear();
+        tree.search("meir", 2, matches::put);
+        assertEquals(Map.of("meier", 1, "meyer", 2), matches);
+    }
+}
@@ -74,6 +74,15 @@ public class NameContainsKeywordsPredicateTest {
                 .withEmail("alice@email.com").withAddress("Main Street").build()));
     }
 
+    @Test
+    public void test_prefixKeyword_matchesWordStart() {
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("ali*"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Bob Alice").build()));
+        assertFalse(predicate.test(new PersonBuilder().withName("Bob Malik").build()));
+        assertFalse(new NameContainsKeywordsPredicate(Arrays.asList("ali")).test(
+                new PersonBuilder().withName("Alice").build()));
+    }
+
     @Test
     public void toStringMethod() {
         List<String> keywords = List.of("keyword1", "keyword2");
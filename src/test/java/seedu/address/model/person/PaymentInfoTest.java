@@ -0,0 +1,77 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+public class PaymentInfoTest {
+
+    private static final long DUE_EPOCH_DAY = LocalDate.of(2025, 1, 13).toEpochDay();
+
+    @Test
+    public void build_invalidDate_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, PaymentInfo.MESSAGE_CONSTRAINTS_DATE, () ->
+                new PaymentInfo.Builder().setPaymentDate("2025-01-13").build());
+
+        // a day past the end of the month
+        assertThrows(IllegalArgumentException.class, PaymentInfo.MESSAGE_CONSTRAINTS_DATE, () ->
+                new PaymentInfo.Builder().setPaymentDate("31-02-2024").build());
+        assertFalse(PaymentInfo.isValidDate("31-02-2024"));
+        assertTrue(PaymentInfo.isValidDate("29-02-2024"));
+    }
+
+    @Test
+    public void build_noDate_hasNoPaymentDate() {
+        PaymentInfo paymentInfo = new PaymentInfo.Builder().build();
+        assertFalse(paymentInfo.hasPaymentDate());
+        assertEquals(PaymentInfo.NO_DATE, paymentInfo.getPaymentEpochDay());
+        assertEquals("", paymentInfo.getPaymentDate());
+        assertFalse(paymentInfo.isOverdue(DUE_EPOCH_DAY));
+    }
+
+    @Test
+    public void build_validDate_storedAsEpochDay() {
+        PaymentInfo paymentInfo = new PaymentInfo.Builder().setPaymentDate("13-01-2025").build();
+        assertTrue(paymentInfo.hasPaymentDate());
+        assertEquals(DUE_EPOCH_DAY, paymentInfo.getPaymentEpochDay());
+        assertEquals("13-01-2025", paymentInfo.getPaymentDate());
+        assertEquals(-2, paymentInfo.getDaysUntilDue(DUE_EPOCH_DAY + 2));
+    }
+
+    @Test
+    public void isOverdue() {
+        PaymentInfo waiting = new PaymentInfo.Builder().setPaymentDate("13-01-2025")
+                .setPaymentStatus("waiting").build();
+        PaymentInfo paid = new PaymentInfo.Builder().setPaymentDate("13-01-2025").setPaymentStatus("paid").build();
+
+        // due date has passed -> overdue
+        assertTrue(waiting.isOverdue(DUE_EPOCH_DAY + 1));
+
+        // due today -> not overdue
+        assertFalse(waiting.isOverdue(DUE_EPOCH_DAY));
+
+        // already paid -> not overdue
+        assertFalse(paid.isOverdue(DUE_EPOCH_DAY + 1));
+    }
+
+    @Test
+    public void equals() {
+        PaymentInfo paymentInfo = new PaymentInfo.Builder().setPaymentFee(100).setPaymentDate("13-01-2025").build();
+
+        // same values -> returns true
+        assertTrue(paymentInfo.equals(new PaymentInfo.Builder().setPaymentFee(100).setPaymentDate("13-01-2025")
+                .build()));
+
+        // different date -> returns false
+        assertFalse(paymentInfo.equals(new PaymentInfo.Builder().setPaymentFee(100).setPaymentDate("14-01-2025")
+                .build()));
+
+        // no date -> returns false
+        assertFalse(paymentInfo.equals(new PaymentInfo.Builder().setPaymentFee(100).build()));
+    }
+}
@@ -7,16 +7,25 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.ELLE;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
+
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.PersonBuilder;
 
 public class UniquePersonListTest {
@@ -109,6 +118,23 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPerson(ALICE, BOB));
     }
 
+    @Test
+    public void setPerson_editedPersonHasDifferentIdentity_oldIdentityReleased() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void setPerson_targetHasSameIdentityButDifferentFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.setPerson(editedAlice, BOB));
+    }
+
     @Test
     public void remove_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.remove(null));
@@ -127,6 +153,14 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void remove_personWithSameIdentityButDifferentFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(editedAlice));
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -162,6 +196,117 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithDuplicatePersons_listUnchanged() {
+        uniquePersonList.add(ALICE);
+        List<Person> listWithDuplicatePersons = Arrays.asList(BOB, ALICE, BOB);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(ALICE);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void getFieldMatcher_listChanges_staysUpToDate() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, ELLE));
+        Predicate<Person> matcher = uniquePersonList.getFieldMatcher(new EduLevel("Bachelor"), null, null,
+                Set.of(new Tag("friends")));
+        assertTrue(matcher.test(ALICE));
+        assertTrue(matcher.test(BENSON));
+        assertFalse(matcher.test(ELLE));
+
+        Person taggedElle = new PersonBuilder(ELLE).withTags("friends").build();
+        uniquePersonList.setPerson(ELLE, taggedElle);
+        assertTrue(matcher.test(taggedElle));
+        Person phdBenson = new PersonBuilder(BENSON).withEduLevel("PhD").build();
+        uniquePersonList.setPerson(BENSON, phdBenson);
+        assertFalse(matcher.test(phdBenson));
+        uniquePersonList.remove(ALICE);
+        assertFalse(matcher.test(ALICE));
+    }
+
+    @Test
+    public void takeOver_listBuiltElsewhere_matchersAndIdentityChecksUseItsIndexes() {
+        uniquePersonList.add(ELLE);
+        Predicate<Person> matcher = uniquePersonList.getFieldMatcher(null, null, null, Set.of(new Tag("friends")));
+        assertFalse(matcher.test(ELLE));
+
+        UniquePersonList builtElsewhere = new UniquePersonList();
+        builtElsewhere.setPersons(Arrays.asList(ALICE, BENSON));
+        uniquePersonList.takeOver(builtElsewhere);
+
+        assertEquals(Arrays.asList(ALICE, BENSON), uniquePersonList.asUnmodifiableObservableList());
+        assertTrue(uniquePersonList.contains(ALICE));
+        assertFalse(uniquePersonList.contains(ELLE));
+        assertTrue(matcher.test(ALICE));
+        assertEquals(2, uniquePersonList.getStatistics().getPersonCount());
+
+        // the indexes taken over stay up to date as the list changes
+        uniquePersonList.remove(ALICE);
+        assertFalse(matcher.test(ALICE));
+        assertTrue(matcher.test(BENSON));
+    }
+
+    @Test
+    public void getPersonsWithAnyTag_afterMutations_reflectsCurrentTags() {
+        Tag husband = new Tag(VALID_TAG_HUSBAND);
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        assertEquals(Set.of(BOB), uniquePersonList.getPersonsWithAnyTag(Set.of(husband)));
+
+        Person taggedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        uniquePersonList.setPerson(ALICE, taggedAlice);
+        assertEquals(Set.of(BOB, taggedAlice), uniquePersonList.getPersonsWithAnyTag(Set.of(husband)));
+
+        uniquePersonList.remove(BOB);
+        assertEquals(Set.of(taggedAlice), uniquePersonList.getPersonsWithAnyTag(Set.of(husband)));
+
+        uniquePersonList.setPersons(Collections.singletonList(ALICE));
+        assertTrue(uniquePersonList.getPersonsWithAnyTag(Set.of(husband)).isEmpty());
+    }
+
+    @Test
+    public void sortByName_thenAddAndEdit_keepsNameOrder() {
+        uniquePersonList.setPersons(Arrays.asList(ELLE, BOB, ALICE));
+        assertTrue(uniquePersonList.sortByName());
+        assertEquals(List.of(ALICE, BOB, ELLE), uniquePersonList.asUnmodifiableObservableList());
+        assertFalse(uniquePersonList.sortByName());
+
+        uniquePersonList.add(BENSON);
+        assertEquals(List.of(ALICE, BENSON, BOB, ELLE), uniquePersonList.asUnmodifiableObservableList());
+
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Zed").build();
+        uniquePersonList.setPerson(ALICE, renamedAlice);
+        assertEquals(List.of(BENSON, BOB, ELLE, renamedAlice), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setPerson_afterSortByName_movedAsSingleChange() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        uniquePersonList.add(ELLE);
+        uniquePersonList.sortByName();
+        List<List<Person>> observed = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change ->
+                observed.add(List.copyOf(change.getList())));
+
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Dora").build();
+        uniquePersonList.setPerson(ALICE, renamedAlice);
+        assertEquals(List.of(List.of(BENSON, renamedAlice, ELLE)), observed);
+    }
+
+    @Test
+    public void setPersons_afterSortByName_stopsKeepingOrder() {
+        uniquePersonList.add(BOB);
+        uniquePersonList.sortByName();
+        assertTrue(uniquePersonList.isSortedByName());
+        uniquePersonList.setPersons(Collections.singletonList(BOB));
+        assertFalse(uniquePersonList.isSortedByName());
+        uniquePersonList.add(ALICE);
+        assertEquals(List.of(BOB, ALICE), uniquePersonList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -172,4 +317,173 @@ public class UniquePersonListTest {
     public void toStringMethod() {
         assertEquals(uniquePersonList.asUnmodifiableObservableList().toString(), uniquePersonList.toString());
     }
+
+    @Test
+    public void getNameMatcher_listChanges_matcherStaysUpToDate() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        Predicate<Person> wordMatcher = uniquePersonList.getNameMatcher(List.of("PAULINE"));
+        Predicate<Person> prefixMatcher = uniquePersonList.getNameMatcher(List.of("ben*"));
+        assertTrue(wordMatcher.test(ALICE));
+        assertFalse(wordMatcher.test(BENSON));
+        assertTrue(prefixMatcher.test(BENSON));
+        assertFalse(prefixMatcher.test(ALICE));
+
+        Person renamedBenson = new PersonBuilder(BENSON).withName("Pauline Tan").build();
+        uniquePersonList.setPerson(BENSON, renamedBenson);
+        assertTrue(wordMatcher.test(renamedBenson));
+        assertFalse(prefixMatcher.test(renamedBenson));
+
+        uniquePersonList.remove(ALICE);
+        assertFalse(wordMatcher.test(ALICE));
+    }
+
+    @Test
+    public void getFuzzyNameMatcher_misspeltKeyword_ranksCloserMatchesFirst() {
+        Person alicia = new PersonBuilder().withName("Alicia Tan").build();
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(alicia);
+        uniquePersonList.add(BENSON);
+        FuzzyNameMatcher matcher = uniquePersonList.getFuzzyNameMatcher(List.of("ALICEE"));
+        assertTrue(matcher.test(ALICE));
+        assertTrue(matcher.test(alicia));
+        assertFalse(matcher.test(BENSON));
+        assertEquals(1, matcher.distanceTo(ALICE));
+        assertTrue(matcher.byDistance().compare(ALICE, alicia) < 0);
+
+        uniquePersonList.remove(ALICE);
+        assertFalse(matcher.test(ALICE));
+        assertTrue(matcher.test(alicia));
+    }
+
+    @Test
+    public void getTextMatcher_listChanges_matcherStaysUpToDate() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        Predicate<Person> matcher = uniquePersonList.getTextMatcher(List.of("jurong"));
+        assertTrue(matcher.test(ALICE));
+        assertFalse(matcher.test(BENSON));
+
+        Person movedBenson = new PersonBuilder(BENSON).withAddress("8, Jurong East St 1").build();
+        uniquePersonList.setPerson(BENSON, movedBenson);
+        uniquePersonList.remove(ALICE);
+        assertTrue(matcher.test(movedBenson));
+        assertFalse(matcher.test(ALICE));
+    }
+
+    @Test
+    public void getTextMatcher_fragments_matchOnlyWholeFragment() {
+        Person abcx = new PersonBuilder(ALICE).withName("Abcx Xbcd").build();
+        uniquePersonList.add(abcx);
+        uniquePersonList.add(BENSON);
+
+        // short fragments, and fragments across grams
+        assertTrue(uniquePersonList.getTextMatcher(List.of("b")).test(abcx));
+        assertTrue(uniquePersonList.getTextMatcher(List.of("cx", "xbcd")).test(abcx));
+        assertFalse(uniquePersonList.getTextMatcher(List.of("xb", "ben")).test(BENSON));
+        assertTrue(uniquePersonList.getTextMatcher(List.of("xbcd")).test(abcx));
+        assertFalse(uniquePersonList.getTextMatcher(List.of("xbcd")).test(BENSON));
+
+        // every gram of the keyword is in the name, but not the keyword itself
+        assertFalse(uniquePersonList.getTextMatcher(List.of("abcd")).test(abcx));
+    }
+
+    @Test
+    public void commitBatch_stagedMutations_appliedAsSingleChange() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        int[] changes = {0};
+        uniquePersonList.asUnmodifiableObservableList().addListener(
+                (ListChangeListener<Person>) change -> changes[0]++);
+
+        uniquePersonList.beginBatch();
+        uniquePersonList.remove(ALICE);
+        Person editedBenson = new PersonBuilder(BENSON).withAddress(VALID_ADDRESS_BOB).build();
+        uniquePersonList.setPerson(BENSON, editedBenson);
+        uniquePersonList.add(BOB);
+        assertEquals(0, changes[0]);
+        assertTrue(uniquePersonList.contains(BOB));
+        assertFalse(uniquePersonList.contains(ALICE));
+
+        uniquePersonList.commitBatch();
+        assertEquals(1, changes[0]);
+        assertEquals(List.of(editedBenson, BOB), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void rollbackBatch_stagedMutations_discarded() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.beginBatch();
+        uniquePersonList.remove(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.rollbackBatch();
+
+        assertEquals(List.of(ALICE), uniquePersonList.asUnmodifiableObservableList());
+        assertTrue(uniquePersonList.contains(ALICE));
+        assertFalse(uniquePersonList.contains(BOB));
+        assertEquals(Set.of(ALICE), uniquePersonList.getPersonsWithAnyTag(ALICE.getTags()));
+    }
+
+    @Test
+    public void beginBatch_batchInProgress_throwsIllegalStateException() {
+        uniquePersonList.beginBatch();
+        assertThrows(IllegalStateException.class, () -> uniquePersonList.beginBatch());
+        assertThrows(IllegalStateException.class, () -> uniquePersonList.setPersons(List.of(ALICE)));
+    }
+
+    @Test
+    public void commitBatch_sortedByName_keepsNameOrder() {
+        uniquePersonList.add(ELLE);
+        uniquePersonList.sortByName();
+        uniquePersonList.beginBatch();
+        uniquePersonList.add(BOB);
+        uniquePersonList.add(ALICE);
+        uniquePersonList.commitBatch();
+        assertEquals(List.of(ALICE, BOB, ELLE), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void getStatistics_mutations_countersUpdated() {
+        Person waiting = new PersonBuilder().withName("Waiting").withEduLevel("Primary").withCurrentGrade("B")
+                .withPaymentFee(200).withPaymentStatus("Waiting").build();
+        Person paid = new PersonBuilder().withName("Paid").withPaymentFee(300).withPaymentStatus("Paid").build();
+        uniquePersonList.add(waiting);
+        uniquePersonList.add(paid);
+
+        PersonStatistics statistics = uniquePersonList.getStatistics();
+        assertEquals(2, statistics.getPersonCount());
+        assertEquals(Map.of("Primary", 1, PersonBuilder.DEFAULT_EDULEVEL, 1), statistics.getEduLevelCounts());
+        assertEquals(Map.of("B", 1), statistics.getCurrentGradeCounts());
+        assertEquals(Map.of(PersonBuilder.DEFAULT_EXP_GRADE, 2), statistics.getExpectedGradeCounts());
+        assertEquals(1, statistics.getPaidCount());
+        assertEquals(1, statistics.getWaitingCount());
+        assertEquals(300, statistics.getReceivedFees());
+        assertEquals(200, statistics.getOutstandingFees());
+
+        uniquePersonList.setPerson(waiting, new PersonBuilder(waiting).withPaymentStatus("Paid").build());
+        uniquePersonList.remove(paid);
+        assertEquals(1, statistics.getPersonCount());
+        assertEquals(Map.of("Primary", 1), statistics.getEduLevelCounts());
+        assertEquals(1, statistics.getPaidCount());
+        assertEquals(0, statistics.getWaitingCount());
+        assertEquals(200, statistics.getReceivedFees());
+        assertEquals(0, statistics.getOutstandingFees());
+    }
+
+    @Test
+    public void getStatistics_rollbackBatch_countersRestored() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.beginBatch();
+        uniquePersonList.add(BOB);
+        uniquePersonList.remove(ALICE);
+        uniquePersonList.rollbackBatch();
+
+        UniquePersonList expectedList = new UniquePersonList();
+        expectedList.add(ALICE);
+        PersonStatistics expected = expectedList.getStatistics();
+        PersonStatistics statistics = uniquePersonList.getStatistics();
+        assertEquals(1, statistics.getPersonCount());
+        assertEquals(expected.getEduLevelCounts(), statistics.getEduLevelCounts());
+        assertEquals(expected.getReceivedFees(), statistics.getReceivedFees());
+    }
 }
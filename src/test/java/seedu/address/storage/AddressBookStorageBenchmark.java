@@ -0,0 +1,96 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Compares the time taken to save and load a large address book, and the size of its data file, in each storage
+ * format. This is not run as part of the tests; run its {@code main} method with the test classpath, optionally
+ * giving the number of persons.
+ */
+public class AddressBookStorageBenchmark {
+
+    private static final int DEFAULT_PERSON_COUNT = 20_000;
+    private static final int WARM_UP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 5;
+
+    /**
+     * Runs the benchmark and prints the results.
+     */
+    public static void main(String[] args) throws Exception {
+        int personCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PERSON_COUNT;
+        AddressBook addressBook = createAddressBook(personCount);
+        Path folder = Files.createTempDirectory("addressBookBenchmark");
+
+        System.out.printf("%d persons%n", personCount);
+        run("json", new JsonAddressBookStorage(folder.resolve("addressbook.json")), addressBook);
+        run("compact json", new JsonAddressBookStorage(folder.resolve("compact.json"), true), addressBook);
+        run("compressed", new JsonAddressBookStorage(folder.resolve("compressed.json"), true, true), addressBook);
+        run("binary", new BinaryAddressBookStorage(folder.resolve("addressbook.bin")), addressBook);
+        run("mapped", new MappedAddressBookStorage(folder.resolve("mapped.bin")), addressBook);
+        run("sharded", new ShardedAddressBookStorage(folder.resolve("sharded.json")), addressBook);
+    }
+
+    private static void run(String format, AddressBookStorage storage, AddressBook addressBook) throws Exception {
+        for (int i = 0; i < WARM_UP_ROUNDS; i++) {
+            storage.saveAddressBook(addressBook);
+            storage.readAddressBook();
+        }
+
+        long saveNanos = 0;
+        long loadNanos = 0;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            long start = System.nanoTime();
+            storage.saveAddressBook(addressBook);
+            saveNanos += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            storage.readAddressBook();
+            loadNanos += System.nanoTime() - start;
+        }
+
+        System.out.printf("%-12s save %6.1f ms, load %6.1f ms, %,d bytes%n", format,
+                saveNanos / 1e6 / MEASURED_ROUNDS, loadNanos / 1e6 / MEASURED_ROUNDS,
+                getDataSize(storage.getAddressBookFilePath()));
+    }
+
+    /**
+     * Returns the total size of the data file at {@code filePath} and the files kept beside it, such as shards.
+     */
+    private static long getDataSize(Path filePath) throws IOException {
+        long size = 0;
+        String glob = filePath.getFileName() + "*";
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(filePath.getParent(), glob)) {
+            for (Path file : files) {
+                size += Files.size(file);
+            }
+        }
+        return size;
+    }
+
+    private static AddressBook createAddressBook(int personCount) {
+        String[] eduLevels = {"Primary", "Secondary", "Diploma"};
+        String[] grades = {"A", "B", "C", "D"};
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < personCount; i++) {
+            persons.add(new PersonBuilder().withName("Student " + i).withPhone(String.valueOf(90000000 + i))
+                    .withEmail("student" + i + "@example.com").withAddress("Block " + i + ", Example Street")
+                    .withEduLevel(eduLevels[i % eduLevels.length]).withCurrentGrade(grades[i % grades.length])
+                    .withExpectedGrade(grades[(i + 1) % grades.length])
+                    .withTags("math", i % 2 == 0 ? "weekday" : "weekend")
+                    .withPaymentFee(100 + i % 50).withPaymentDate(String.format("%02d-01-2025", 1 + i % 28))
+                    .withPaymentStatus(i % 3 == 0 ? "Paid" : "Waiting").build());
+        }
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        return addressBook;
+    }
+}
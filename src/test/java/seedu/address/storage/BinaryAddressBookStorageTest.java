@@ -0,0 +1,199 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.YearMonth;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.collections.ObservableList;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.payment.LedgerEntry;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("missing.bin")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        original.setPerson(original.getPersonList().get(0),
+                new PersonBuilder(original.getPersonList().get(0)).withPaymentFee(150).withPaymentDate("")
+                        .withPaymentStatus("Waiting").build());
+
+        storage.saveAddressBook(original);
+        assertReadBack(original, storage);
+
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        assertReadBack(original, storage);
+    }
+
+    @Test
+    public void write_unchangedPersons_notEncodedAgain() throws Exception {
+        Path filePath = testFolder.resolve("reused.bin");
+        Path freshFilePath = testFolder.resolve("fresh.bin");
+        AddressBook original = getTypicalAddressBook();
+        int personCount = original.getPersonList().size();
+        BinaryAddressBookWriter writer = new BinaryAddressBookWriter();
+        writer.write(original, filePath);
+        assertEquals(personCount, writer.getEncodedPersonCount());
+
+        Person first = original.getPersonList().get(0);
+        original.setPerson(first, new PersonBuilder(first).withTags("newTag").build());
+        original.addPerson(HOON);
+        writer.write(original, filePath);
+        assertEquals(personCount + 2, writer.getEncodedPersonCount());
+        assertReadBack(original, new BinaryAddressBookStorage(filePath));
+
+        // the dictionary is rebuilt, and every person encoded again, once most of it is unused
+        AddressBook fewerStrings = new AddressBook();
+        fewerStrings.addPerson(HOON);
+        writer.write(fewerStrings, filePath);
+        new BinaryAddressBookWriter().write(fewerStrings, freshFilePath);
+        assertEquals(Files.size(freshFilePath), Files.size(filePath));
+        assertReadBack(fewerStrings, new BinaryAddressBookStorage(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_smallerThanJson() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        Path binaryPath = testFolder.resolve("addressBook.bin");
+        Path jsonPath = testFolder.resolve("addressBook.json");
+        new BinaryAddressBookStorage(binaryPath).saveAddressBook(original);
+        new JsonAddressBookStorage(jsonPath, true).saveAddressBook(original);
+
+        assertTrue(Files.size(binaryPath) * 2 < Files.size(jsonPath));
+    }
+
+    @Test
+    public void readAddressBook_otherFormat_converted() throws Exception {
+        Path filePath = testFolder.resolve("addressBook");
+        AddressBook original = getTypicalAddressBook();
+
+        // json, with changes in the journal, to binary
+        JournaledAddressBookStorage jsonStorage = new JournaledAddressBookStorage(filePath);
+        jsonStorage.saveAddressBook(original);
+        original.addPerson(HOON);
+        jsonStorage.saveAddressBook(original);
+        BinaryAddressBookStorage binaryStorage = new BinaryAddressBookStorage(filePath);
+        binaryStorage.saveAddressBook(binaryStorage.readAddressBook().get());
+        assertTrue(BinaryAddressBookReader.isBinaryFile(filePath));
+        assertReadBack(original, binaryStorage);
+
+        // and back
+        assertReadBack(original, new JournaledAddressBookStorage(filePath));
+        assertReadBack(original, new JsonAddressBookStorage(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_failsPartWay_previousFileKept() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        // the ledger fails the second time it is read, after the persons have been written
+        int[] readCount = {0};
+        ReadOnlyAddressBook failing = new ReadOnlyAddressBook() {
+            @Override
+            public ObservableList<Person> getPersonList() {
+                return original.getPersonList();
+            }
+
+            @Override
+            public List<LedgerEntry> getLedgerEntries() {
+                return new AbstractList<>() {
+                    @Override
+                    public LedgerEntry get(int index) {
+                        if (readCount[0]++ > 0) {
+                            throw new IllegalStateException();
+                        }
+                        return new LedgerEntry("Alice", 0, YearMonth.of(2025, 1), 0, 0);
+                    }
+
+                    @Override
+                    public int size() {
+                        return 1;
+                    }
+                };
+            }
+        };
+        assertThrows(IllegalStateException.class, () -> storage.saveAddressBook(failing));
+
+        assertReadBack(original, new BinaryAddressBookStorage(filePath));
+        try (Stream<Path> files = Files.list(testFolder)) {
+            assertEquals(List.of(filePath), files.toList());
+        }
+    }
+
+    @Test
+    public void readAddressBook_invalidFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        byte[] saved = Files.readAllBytes(filePath);
+
+        // truncated
+        Files.write(filePath, Arrays.copyOf(saved, saved.length - 1));
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+
+        // from a later version of the format
+        byte[] laterVersion = saved.clone();
+        ByteBuffer.wrap(laterVersion).putInt(Integer.BYTES, BinaryAddressBookReader.VERSION + 1);
+        Files.write(filePath, laterVersion);
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+
+        // counts and lengths that are negative or larger than the file
+        ByteBuffer buffer = ByteBuffer.wrap(saved);
+        buffer.position(2 * Integer.BYTES);
+        int dictionaryOffset = buffer.position();
+        int dictionarySize = buffer.getInt();
+        for (int i = 0; i < dictionarySize; i++) {
+            int length = buffer.getShort();
+            buffer.position(buffer.position() + length);
+        }
+        int personCountOffset = buffer.position();
+        int firstRecordOffset = personCountOffset + Integer.BYTES;
+        for (int offset : new int[] {dictionaryOffset, personCountOffset, firstRecordOffset}) {
+            for (int value : new int[] {-1, Integer.MAX_VALUE, saved.length}) {
+                byte[] corrupt = saved.clone();
+                ByteBuffer.wrap(corrupt).putInt(offset, value);
+                Files.write(filePath, corrupt);
+                assertThrows(DataLoadingException.class, storage::readAddressBook);
+            }
+        }
+    }
+
+    private static void assertReadBack(ReadOnlyAddressBook expected, AddressBookStorage storage) throws Exception {
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        assertEquals(expected, readBack);
+        assertEquals(expected.getPersonList(), readBack.getPersonList());
+        assertEquals(expected.getLedgerEntries(), readBack.getLedgerEntries());
+    }
+}
@@ -0,0 +1,127 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new JournaledAddressBookStorage(testFolder.resolve("missing.json")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_changes_appendedToJournalOnly() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        String snapshot = Files.readString(filePath);
+
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        original.setPerson(BENSON, new PersonBuilder(BENSON).withPaymentFee(100).build());
+        storage.saveAddressBook(original);
+
+        // saving an unchanged address book records nothing
+        storage.saveAddressBook(original);
+
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(4, readJournal(filePath).size());
+        assertReadBack(original, filePath);
+    }
+
+    @Test
+    public void saveAddressBook_journalFull_rewritesSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 1, false);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        assertEquals(2, readJournal(filePath).size());
+
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        assertEquals(1, readJournal(filePath).size());
+        assertEquals(original, new JsonAddressBookStorage(filePath).readAddressBook().get());
+        assertReadBack(original, filePath);
+    }
+
+    @Test
+    public void readAddressBook_snapshotReplaced_journalIgnored() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        // as if the snapshot was edited by hand
+        AddressBook edited = new AddressBook();
+        edited.addPerson(IDA);
+        new JsonAddressBookStorage(filePath).saveAddressBook(edited);
+        assertEquals(edited, new JournaledAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastRecord_ignoredAndRewritten() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        AddressBook expected = new AddressBook(original);
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+
+        // as if the last save was interrupted
+        Path journalPath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        byte[] journal = Files.readAllBytes(journalPath);
+        Files.write(journalPath, Arrays.copyOf(journal, journal.length - 10));
+
+        JournaledAddressBookStorage reopened = new JournaledAddressBookStorage(filePath);
+        assertEquals(expected, reopened.readAddressBook().get());
+
+        reopened.saveAddressBook(expected);
+        assertEquals(1, readJournal(filePath).size());
+        assertReadBack(expected, filePath);
+    }
+
+    private static List<String> readJournal(Path filePath) throws Exception {
+        return Files.readAllLines(JournaledAddressBookStorage.getJournalFilePath(filePath));
+    }
+
+    /**
+     * Asserts that a new storage reads back {@code expected}, together with its payment ledger, from
+     * {@code filePath}.
+     */
+    private static void assertReadBack(ReadOnlyAddressBook expected, Path filePath) throws Exception {
+        ReadOnlyAddressBook readBack = new JournaledAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(expected, readBack);
+        assertEquals(expected.getLedgerEntries(), readBack.getLedgerEntries());
+    }
+}
@@ -0,0 +1,77 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.TypicalPersons;
+
+public class JsonAddressBookReaderTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
+    private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
+    private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
+    private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_typicalPersonsFile_sameAsBindingWholeFile() throws Exception {
+        AddressBook addressBookFromFile = JsonAddressBookReader.read(TYPICAL_PERSONS_FILE);
+        assertEquals(TypicalPersons.getTypicalAddressBook(), addressBookFromFile);
+
+        AddressBook boundAddressBook = JsonUtil.readJsonFile(TYPICAL_PERSONS_FILE, JsonSerializableAddressBook.class)
+                .get().toModelType();
+        assertEquals(boundAddressBook.getLedgerEntries(), addressBookFromFile.getLedgerEntries());
+    }
+
+    @Test
+    public void read_savedLedgerAndUnknownFields_ledgerRestored() throws Exception {
+        AddressBook original = TypicalPersons.getTypicalAddressBook();
+        original.removePerson(TypicalPersons.ALICE);
+        Path filePath = testFolder.resolve("ledger.json");
+        String json = JsonUtil.toJsonString(new JsonSerializableAddressBook(original));
+        Files.writeString(filePath, json.replaceFirst("\\{", "{ \"unknown\" : { \"nested\" : [ 1, 2 ] },"));
+
+        AddressBook readBack = JsonAddressBookReader.read(filePath);
+        assertEquals(original, readBack);
+        assertEquals(original.getLedgerEntries(), readBack.getLedgerEntries());
+    }
+
+    @Test
+    public void read_emptyObject_emptyAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("empty.json");
+        Files.writeString(filePath, "{}");
+        assertTrue(JsonAddressBookReader.read(filePath).getPersonList().isEmpty());
+    }
+
+    @Test
+    public void read_notAnObject_throwsIoException() throws Exception {
+        Path filePath = testFolder.resolve("array.json");
+        Files.writeString(filePath, "[]");
+        assertThrows(IOException.class, () -> JsonAddressBookReader.read(filePath));
+    }
+
+    @Test
+    public void read_invalidPersonFile_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> JsonAddressBookReader.read(INVALID_PERSON_FILE));
+    }
+
+    @Test
+    public void read_duplicatePersons_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                JsonAddressBookReader.read(DUPLICATE_PERSON_FILE));
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.HOON;
@@ -9,15 +10,25 @@ import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import javafx.collections.ObservableList;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.payment.LedgerEntry;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
@@ -60,6 +71,13 @@ public class JsonAddressBookStorageTest {
         assertThrows(DataLoadingException.class, () -> readAddressBook("invalidAndValidPersonAddressBook.json"));
     }
 
+    @Test
+    public void readAddressBook_legacyDayPastEndOfMonth_movedToLastDay() throws Exception {
+        // saved by a version that accepted 31-02-2024
+        ReadOnlyAddressBook addressBook = readAddressBook("legacyDateAddressBook.json").get();
+        assertEquals("29-02-2024", addressBook.getPersonList().get(0).getPaymentInfo().getPaymentDate());
+    }
+
     @Test
     public void readAndSaveAddressBook_allInOrder_success() throws Exception {
         Path filePath = testFolder.resolve("TempAddressBook.json");
@@ -77,6 +95,7 @@ public class JsonAddressBookStorageTest {
         jsonAddressBookStorage.saveAddressBook(original, filePath);
         readBack = jsonAddressBookStorage.readAddressBook(filePath).get();
         assertEquals(original, new AddressBook(readBack));
+        assertEquals(original.getLedgerEntries(), readBack.getLedgerEntries());
 
         // Save and read without specifying file path
         original.addPerson(IDA);
@@ -86,6 +105,115 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void saveAddressBook_compact_readBackWithoutLineBreaks() throws Exception {
+        Path filePath = testFolder.resolve("CompactAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath, true);
+
+        jsonAddressBookStorage.saveAddressBook(original);
+        assertFalse(Files.readString(filePath).contains("\n"));
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_compressed_readBackByEveryStorage() throws Exception {
+        Path filePath = testFolder.resolve("CompressedAddressBook.json");
+        Path compactPath = testFolder.resolve("CompactAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath, true, true);
+
+        jsonAddressBookStorage.saveAddressBook(original);
+        new JsonAddressBookStorage(compactPath, true).saveAddressBook(original);
+        assertTrue(FileUtil.isCompressedFile(filePath));
+        assertTrue(Files.size(filePath) < Files.size(compactPath));
+
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+        assertEquals(original, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+        assertEquals(original, new AddressBook(new BinaryAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_switchedFromJournaledWithChangesInJournal_changesKept() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournaledAddressBookStorage journaledStorage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        journaledStorage.saveAddressBook(original);
+        original.addPerson(HOON);
+        journaledStorage.saveAddressBook(original);
+        assertEquals(2, Files.readAllLines(JournaledAddressBookStorage.getJournalFilePath(filePath)).size());
+
+        JsonAddressBookStorage compressedStorage = new JsonAddressBookStorage(filePath, true, true);
+        ReadOnlyAddressBook readBack = compressedStorage.readAddressBook().get();
+        assertEquals(original, readBack);
+        assertEquals(original.getLedgerEntries(), readBack.getLedgerEntries());
+
+        compressedStorage.saveAddressBook(readBack);
+        assertEquals(original, compressedStorage.readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_failsPartWay_previousFileKept() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(original);
+
+        // the ledger fails after every person has been written
+        ReadOnlyAddressBook failing = new ReadOnlyAddressBook() {
+            @Override
+            public ObservableList<Person> getPersonList() {
+                return original.getPersonList();
+            }
+
+            @Override
+            public List<LedgerEntry> getLedgerEntries() {
+                return new AbstractList<>() {
+                    @Override
+                    public LedgerEntry get(int index) {
+                        throw new IllegalStateException();
+                    }
+
+                    @Override
+                    public int size() {
+                        return 1;
+                    }
+                };
+            }
+        };
+        assertThrows(IllegalStateException.class, () -> jsonAddressBookStorage.saveAddressBook(failing));
+
+        assertEquals(original, new JsonAddressBookStorage(filePath).readAddressBook().get());
+        try (Stream<Path> files = Files.list(testFolder)) {
+            assertEquals(List.of(filePath), files.toList());
+        }
+    }
+
+    @Test
+    public void write_unchangedPersons_notSerializedAgain() throws Exception {
+        for (boolean isCompact : new boolean[] {false, true}) {
+            Path filePath = testFolder.resolve("ReusedAddressBook.json");
+            Path freshFilePath = testFolder.resolve("FreshAddressBook.json");
+            AddressBook original = getTypicalAddressBook();
+            int personCount = original.getPersonList().size();
+            JsonAddressBookWriter writer = new JsonAddressBookWriter(isCompact);
+            writer.write(original, filePath);
+            assertEquals(personCount, writer.getSerializedPersonCount());
+
+            original.setPerson(ALICE, new PersonBuilder(ALICE).withPaymentFee(150).build());
+            original.addPerson(HOON);
+            writer.write(original, filePath);
+            assertEquals(personCount + 2, writer.getSerializedPersonCount());
+
+            // the reused records are laid out as if serialized afresh
+            new JsonAddressBookWriter(isCompact).write(original, freshFilePath);
+            assertEquals(Files.readString(freshFilePath), Files.readString(filePath));
+            JsonSerializableAddressBook serialized = new JsonSerializableAddressBook(original);
+            JsonUtil.saveJsonFile(serialized, freshFilePath, isCompact);
+            assertEquals(Files.readString(freshFilePath), Files.readString(filePath));
+        }
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
@@ -5,12 +5,15 @@ import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.person.Phone;
 import seedu.address.testutil.TypicalPersons;
 
 public class JsonSerializableAddressBookTest {
@@ -44,4 +47,36 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_manyPersons_reportsFirstErrorInOrder() throws Exception {
+        int count = AddressBookAssembler.PARALLEL_CONVERSION_THRESHOLD * 4;
+
+        List<JsonAdaptedPerson> persons = createPersons(count);
+        assertEquals(count, new JsonSerializableAddressBook(persons, List.of()).toModelType().getPersonList().size());
+
+        // a duplicate before an invalid person
+        persons.set(count / 2, createPerson("Student 1", "99999999"));
+        persons.set(count - 1, createPerson("Student X", "+651234"));
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON,
+                new JsonSerializableAddressBook(persons, List.of())::toModelType);
+
+        // an invalid person before a duplicate
+        persons.set(count / 4, createPerson("Student Y", "+651234"));
+        assertThrows(IllegalValueException.class, Phone.MESSAGE_CONSTRAINTS,
+                new JsonSerializableAddressBook(persons, List.of())::toModelType);
+    }
+
+    private static List<JsonAdaptedPerson> createPersons(int count) {
+        List<JsonAdaptedPerson> persons = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            persons.add(createPerson("Student " + i, String.valueOf(90000000 + i)));
+        }
+        return persons;
+    }
+
+    private static JsonAdaptedPerson createPerson(String name, String phone) {
+        return new JsonAdaptedPerson(name, phone, "student@example.com", "Example Street", "Primary", null, "A", "B",
+                null, 100, "", "");
+    }
+
 }
@@ -0,0 +1,204 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class MappedAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(testFolder.resolve("missing.bin"));
+        assertFalse(storage.readAddressBook().isPresent());
+        assertFalse(storage.openAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        original.setPerson(ALICE, new PersonBuilder(ALICE).withTags("friends#ff0000", "tutee").withPaymentDate("")
+                .withPaymentStatus("Waiting").build());
+
+        storage.saveAddressBook(original);
+        assertReadBack(original, storage);
+        assertReadBack(original, new MappedAddressBookStorage(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_changes_overwrittenInPlace() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        Object fileKey = getFileKey(filePath);
+
+        // edit, insert and remove persons in the middle, which moves the records after them
+        Person benson = original.getPersonList().get(original.getPersonList().indexOf(BENSON));
+        original.setPerson(benson, new PersonBuilder(BENSON).withPaymentFee(150).build());
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        original.sortPersonsByName();
+        storage.saveAddressBook(original);
+        original.removePerson(HOON);
+        storage.saveAddressBook(original);
+
+        assertEquals(fileKey, getFileKey(filePath));
+        assertReadBack(original, new MappedAddressBookStorage(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_outOfRoom_rewritten() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        Object fileKey = getFileKey(filePath);
+
+        // each edit leaves the text of the edited record behind, until the text no longer fits
+        for (int fee = 0; fileKey.equals(getFileKey(filePath)); fee++) {
+            assertTrue(fee < MappedAddressBookStorage.MIN_TEXT_CAPACITY);
+            Person ida = original.getPersonList().get(original.getPersonList().size() - 1);
+            original.setPerson(ida, new PersonBuilder(IDA).withPaymentFee(fee).build());
+            storage.saveAddressBook(original);
+        }
+
+        assertReadBack(original, new MappedAddressBookStorage(filePath));
+    }
+
+    @Test
+    public void openAddressBook_decodesOnDemand() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        MappedAddressBook view = storage.openAddressBook().get();
+        assertEquals(original.getPersonList().size(), view.getPersonList().size());
+        assertEquals(original.getPersonList().get(1), view.getPersonList().get(1));
+        assertEquals(original.getLedgerEntries(), view.getLedgerEntries());
+        assertEquals(original, new AddressBook(view));
+    }
+
+    @Test
+    public void readAddressBook_otherFormat_converted() throws Exception {
+        Path filePath = testFolder.resolve("addressBook");
+        AddressBook original = getTypicalAddressBook();
+
+        new JournaledAddressBookStorage(filePath).saveAddressBook(original);
+        MappedAddressBookStorage mappedStorage = new MappedAddressBookStorage(filePath);
+        mappedStorage.saveAddressBook(mappedStorage.readAddressBook().get());
+        assertTrue(MappedAddressBookFile.isMappedFile(filePath));
+        assertReadBack(original, mappedStorage);
+
+        // and back
+        assertReadBack(original, new JournaledAddressBookStorage(filePath));
+        assertReadBack(original, new BinaryAddressBookStorage(filePath));
+    }
+
+    @Test
+    public void readAddressBook_invalidFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        new MappedAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] saved = Files.readAllBytes(filePath);
+
+        // left behind by an interrupted save, without its undo log
+        byte[] interrupted = saved.clone();
+        ByteBuffer.wrap(interrupted).putInt(2 * Integer.BYTES, 1);
+        Files.write(filePath, interrupted);
+        assertThrows(DataLoadingException.class, () -> new MappedAddressBookStorage(filePath).readAddressBook());
+        assertThrows(DataLoadingException.class, () -> new MappedAddressBookStorage(filePath).openAddressBook());
+
+        // a person whose name refers to text outside the file
+        byte[] outside = saved.clone();
+        ByteBuffer.wrap(outside).putInt(MappedAddressBookFile.HEADER_SIZE, Integer.MAX_VALUE);
+        Files.write(filePath, outside);
+        assertThrows(DataLoadingException.class, () -> new MappedAddressBookStorage(filePath).readAddressBook());
+        MappedAddressBook view = new MappedAddressBookStorage(filePath).openAddressBook().get();
+        assertThrows(IllegalStateException.class, () -> view.getPersonList().get(0));
+    }
+
+    @Test
+    public void saveAddressBook_failedUpdate_rewrittenByNextSave() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        Path undoLogPath = Paths.get(filePath + MappedAddressBookFile.UNDO_LOG_SUFFIX);
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        // the undo log cannot be written where a directory is in the way
+        Files.createDirectory(undoLogPath);
+        original.addPerson(HOON);
+        assertThrows(IOException.class, () -> storage.saveAddressBook(original));
+        Files.delete(undoLogPath);
+
+        storage.saveAddressBook(original);
+        assertReadBack(original, new MappedAddressBookStorage(filePath));
+        assertFalse(Files.exists(Paths.get(filePath + ".tmp")));
+    }
+
+    @Test
+    public void readAddressBook_interruptedSave_rolledBack() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        Path undoLogPath = Paths.get(filePath + MappedAddressBookFile.UNDO_LOG_SUFFIX);
+        AddressBook original = getTypicalAddressBook();
+        new MappedAddressBookStorage(filePath).saveAddressBook(original);
+
+        // a save that overwrites every person, stopped before it finishes
+        MappedAddressBookFile mappedFile = MappedAddressBookFile.open(filePath, true);
+        int personCount = mappedFile.getPersonCount();
+        mappedFile.startWrite(0, personCount, 0, mappedFile.getLedgerCount());
+        for (int i = 0; i < personCount; i++) {
+            mappedFile.writePerson(i, HOON);
+        }
+        mappedFile.close();
+        byte[] undoLog = Files.readAllBytes(undoLogPath);
+
+        // an undo log that was not completely written is not used
+        Files.write(undoLogPath, Arrays.copyOf(undoLog, undoLog.length / 2));
+        assertThrows(DataLoadingException.class, () -> new MappedAddressBookStorage(filePath).readAddressBook());
+
+        Files.write(undoLogPath, undoLog);
+        assertReadBack(original, new MappedAddressBookStorage(filePath));
+        assertFalse(Files.exists(undoLogPath));
+    }
+
+    private static Object getFileKey(Path filePath) throws Exception {
+        return Files.readAttributes(filePath, BasicFileAttributes.class).fileKey();
+    }
+
+    private static void assertReadBack(ReadOnlyAddressBook expected, AddressBookStorage storage) throws Exception {
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        assertEquals(expected, readBack);
+        assertEquals(expected.getPersonList(), readBack.getPersonList());
+        assertEquals(expected.getLedgerEntries(), readBack.getLedgerEntries());
+    }
+}
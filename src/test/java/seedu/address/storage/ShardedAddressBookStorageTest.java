@@ -0,0 +1,141 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.testutil.PersonBuilder;
+
+public class ShardedAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_invalidShardCount_throwsIllegalArgumentException() {
+        Path filePath = testFolder.resolve("addressBook.json");
+        assertThrows(IllegalArgumentException.class, () -> new ShardedAddressBookStorage(filePath, 0));
+        assertThrows(IllegalArgumentException.class, () -> new ShardedAddressBookStorage(filePath,
+                JsonShardManifest.MAX_SHARD_COUNT + 1));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new ShardedAddressBookStorage(testFolder.resolve("missing.json")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, 4);
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        assertTrue(ShardedAddressBookReader.isManifest(filePath));
+        assertReadBack(original, storage);
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertReadBack(original, storage);
+        assertReadBack(original, new ShardedAddressBookStorage(filePath, 4));
+    }
+
+    @Test
+    public void saveAddressBook_onePersonChanged_onlyItsShardRewritten() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, 4);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        List<String> shardsBefore = readManifest(filePath).getShards();
+
+        // nothing changed
+        storage.saveAddressBook(original);
+        assertEquals(shardsBefore, readManifest(filePath).getShards());
+
+        original.setPerson(ALICE, new PersonBuilder(ALICE).withPaymentFee(150).build());
+        storage.saveAddressBook(original);
+        List<String> shardsAfter = readManifest(filePath).getShards();
+        int changedShard = storage.getShard(ALICE.getName().fullName);
+        for (int i = 0; i < shardsBefore.size(); i++) {
+            if (i == changedShard) {
+                assertNotEquals(shardsBefore.get(i), shardsAfter.get(i));
+                assertFalse(Files.exists(filePath.resolveSibling(shardsBefore.get(i))));
+            } else {
+                assertEquals(shardsBefore.get(i), shardsAfter.get(i));
+            }
+        }
+        assertReadBack(original, new ShardedAddressBookStorage(filePath, 4));
+    }
+
+    @Test
+    public void readAddressBook_otherFormat_converted() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        AddressBook original = getTypicalAddressBook();
+
+        // json to sharded
+        new JournaledAddressBookStorage(filePath).saveAddressBook(original);
+        ShardedAddressBookStorage shardedStorage = new ShardedAddressBookStorage(filePath);
+        shardedStorage.saveAddressBook(shardedStorage.readAddressBook().get());
+        assertTrue(ShardedAddressBookReader.isManifest(filePath));
+        assertReadBack(original, shardedStorage);
+
+        // and back, or to another shard count
+        assertReadBack(original, new JournaledAddressBookStorage(filePath));
+        assertReadBack(original, new BinaryAddressBookStorage(filePath));
+        ShardedAddressBookStorage resharded = new ShardedAddressBookStorage(filePath, 3);
+        resharded.saveAddressBook(resharded.readAddressBook().get());
+        assertEquals(3, readManifest(filePath).getShards().size());
+        assertReadBack(original, resharded);
+    }
+
+    @Test
+    public void readAddressBook_shardsDoNotMatchManifest_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, 4);
+        storage.saveAddressBook(getTypicalAddressBook());
+        JsonShardManifest manifest = readManifest(filePath);
+
+        // a person missing from the manifest
+        JsonUtil.saveJsonFile(new JsonShardManifest(manifest.getShards(), manifest.getPersonShards().substring(1),
+                manifest.getLedgerShards(), manifest.getGeneration()), filePath);
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+
+        // a shard that does not exist
+        JsonUtil.saveJsonFile(new JsonShardManifest(manifest.getShards(), manifest.getPersonShards() + "9",
+                manifest.getLedgerShards(), manifest.getGeneration()), filePath);
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+
+        // a missing shard file
+        Files.delete(filePath.resolveSibling(manifest.getShards().get(0)));
+        JsonUtil.saveJsonFile(manifest, filePath);
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+
+    private static JsonShardManifest readManifest(Path filePath) throws Exception {
+        return ShardedAddressBookReader.readManifest(filePath);
+    }
+
+    private static void assertReadBack(ReadOnlyAddressBook expected, AddressBookStorage storage) throws Exception {
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        assertEquals(expected, readBack);
+        assertEquals(expected.getPersonList(), readBack.getPersonList());
+        assertEquals(expected.getLedgerEntries(), readBack.getLedgerEntries());
+    }
+}